@@ -0,0 +1,76 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.logic.BatchWinChecker;
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+//terminal checks of 4096 random positions, in one batch against one BitBoard.hasLine check after another
+//-Dtictactoe.scalarBatch=true in jvmArgsAppend measures the batch without the Vector API
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchWinCheckBenchmark {
+    private static final int BOARDS = 4096;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public GameBoardSize size;
+
+    private final long[] xCells = new long[BOARDS];
+    private final long[] oCells = new long[BOARDS];
+    private final byte[] results = new byte[BOARDS];
+    private BitBoard[] boards;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        this.boards = new BitBoard[BOARDS];
+        for(int i = 0; i < BOARDS; i++) {
+            this.boards[i] = new BitBoard(this.size);
+            Symbol next = Symbol.X;
+            int moves = random.nextInt(this.boards[i].getCellCount() + 1);
+            for(int move = 0; move < moves; move++) {
+                this.boards[i].place(this.boards[i].getRandomFreeCell(random), next);
+                next = next == Symbol.X ? Symbol.O : Symbol.X;
+            }
+            this.xCells[i] = this.boards[i].getCells(Symbol.X);
+            this.oCells[i] = this.boards[i].getCells(Symbol.O);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public byte[] batch() {
+        BatchWinChecker.evaluate(this.size, this.xCells, this.oCells, this.results, BOARDS);
+        return this.results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public byte[] oneByOne() {
+        for(int i = 0; i < BOARDS; i++) {
+            BitBoard board = this.boards[i];
+            this.results[i] = board.hasLine(Symbol.X) ? BatchWinChecker.X_WINS : board.hasLine(Symbol.O) ? BatchWinChecker.O_WINS
+                    : board.isFull() ? BatchWinChecker.TIE : BatchWinChecker.UNSETTLED;
+        }
+        return this.results;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.util.SplittableRandom;
+
+final class BenchmarkPositions {
+    private BenchmarkPositions() {
+    }
+
+    //a fixed order of all cells in which alternating players fill the board without completing a line
+    static int[] tieOrder(GameBoardSize size) {
+        SplittableRandom random = new SplittableRandom(2025);
+        int cellCount = size.getValue() * size.getValue();
+        while(true) {
+            int[] order = new int[cellCount];
+            for(int i = 0; i < cellCount; i++) {
+                order[i] = i;
+            }
+            for(int i = cellCount - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            BitBoard board = new BitBoard(size);
+            Symbol symbol = Symbol.X;
+            boolean completed = false;
+            for(int cell : order) {
+                completed |= board.place(cell, symbol);
+                symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+            }
+            if(!completed) return order;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.ai.AlphaBetaStrategy;
+import io.github.sebkaminski16.tictactoe.ai.MctsStrategy;
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+//latency of one computer move from an early middle game position
+//the alpha-beta search is bounded by its 50 ms budget on boards it cannot solve in time, mcts by a fixed iteration count
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComputerMoveBenchmark {
+    private static final long ONE_MINUTE_MILLIS = 60_000;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public GameBoardSize size;
+
+    private BitBoard board;
+    private RandomMoveStrategy random;
+    private AlphaBetaStrategy alphaBeta;
+    private MctsStrategy mcts;
+
+    @Setup
+    public void setup() {
+        int n = this.size.getValue();
+        this.board = new BitBoard(this.size);
+        this.board.place(n * n / 2, Symbol.X);
+        this.board.place(0, Symbol.O);
+        this.board.place(n - 1, Symbol.X);
+        this.random = new RandomMoveStrategy();
+        this.alphaBeta = new AlphaBetaStrategy(50);
+        this.mcts = new MctsStrategy(ONE_MINUTE_MILLIS, 10_000, 1 << 16, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    public int randomMove() {
+        return this.random.chooseCell(this.board, Symbol.O);
+    }
+
+    @Benchmark
+    public int alphaBetaMove() {
+        return this.alphaBeta.chooseCell(this.board, Symbol.O);
+    }
+
+    @Benchmark
+    public int mctsMove() {
+        return this.mcts.chooseCell(this.board, Symbol.O);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+//cost of applying moves - on the bare board and through Game with its validation
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public GameBoardSize size;
+
+    private BitBoard board;
+    private int cell;
+    //cell order in which nobody completes a line before the board is full
+    private int[] tieOrder;
+
+    @Setup
+    public void setup() {
+        this.board = new BitBoard(this.size);
+        this.cell = this.size.getValue() + 1;
+        this.tieOrder = BenchmarkPositions.tieOrder(this.size);
+    }
+
+    @Benchmark
+    public boolean placeAndRemove() {
+        boolean completed = this.board.place(this.cell, Symbol.X);
+        this.board.remove(this.cell, Symbol.X);
+        return completed;
+    }
+
+    //one full game through insertSymbolIntoCellN, divide by the number of cells for the cost per move
+    @Benchmark
+    public Game insertSymbolIntoCellNFullBoard() {
+        Game game = new Game();
+        game.configure(this.size, "Player1", "Player2");
+        for(int move : this.tieOrder) {
+            game.insertSymbolIntoCellN(move);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+//complete games against the random computer player, the "human" picks random free cells as well
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomGameBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public GameBoardSize size;
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        this.random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public GameStatus randomGame() {
+        Game game = new Game(this.random.split());
+        game.configure(this.size, "Player1");
+        List<Symbol> board = game.getGameBoard();
+        while(game.getGameStatus() == GameStatus.UNSETTLED) {
+            int cell = this.random.nextInt(board.size());
+            while(board.get(cell) != null) {
+                cell = this.random.nextInt(board.size());
+            }
+            game.insertSymbolIntoCellN(cell);
+        }
+        return game.getGameStatus();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.sebkaminski16.tictactoe.benchmark;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+//win detection on an empty, a near-win and a full board
+//lastMove: the incremental check the game runs after every move, fullScan: all win lines of one player
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinDetectionBenchmark {
+    public enum BoardState {
+        EMPTY,
+        NEAR_WIN,
+        FULL
+    }
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public GameBoardSize size;
+
+    @Param({"EMPTY", "NEAR_WIN", "FULL"})
+    public BoardState state;
+
+    private BitBoard board;
+    private int cell;
+    private Symbol symbol;
+
+    @Setup
+    public void setup() {
+        int n = this.size.getValue();
+        this.board = new BitBoard(this.size);
+        switch(this.state) {
+            case EMPTY -> {
+                this.cell = 0;
+                this.symbol = Symbol.X;
+            }
+            case NEAR_WIN -> {
+                //X misses the last cell of the first row, O is spread over the second row
+                for(int i = 0; i < n - 1; i++) {
+                    this.board.place(i, Symbol.X);
+                    this.board.place(n + i, Symbol.O);
+                }
+                this.cell = n - 1;
+                this.symbol = Symbol.X;
+            }
+            case FULL -> {
+                int[] tieOrder = BenchmarkPositions.tieOrder(this.size);
+                Symbol next = Symbol.X;
+                for(int i = 0; i < tieOrder.length - 1; i++) {
+                    this.board.place(tieOrder[i], next);
+                    next = next == Symbol.X ? Symbol.O : Symbol.X;
+                }
+                this.cell = tieOrder[tieOrder.length - 1];
+                this.symbol = next;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean lastMove() {
+        boolean completed = this.board.place(this.cell, this.symbol);
+        this.board.remove(this.cell, this.symbol);
+        return completed;
+    }
+
+    @Benchmark
+    public boolean fullScan() {
+        return this.board.hasLine(this.symbol);
+    }
+}
@@ -1,15 +1,27 @@
 package io.github.sebkaminski16.tictactoe;
 
+import io.github.sebkaminski16.tictactoe.ai.AlphaBetaStrategy;
+import io.github.sebkaminski16.tictactoe.ai.TablebaseStrategy;
 import io.github.sebkaminski16.tictactoe.logic.Game;
 import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
 import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.MoveResult;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
 import io.github.sebkaminski16.tictactoe.presentation.consolescreen.GameScreen;
 import io.github.sebkaminski16.tictactoe.presentation.keyboardinput.KeyboardInput;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 public class Main {
     public static void main(String[] args) {
-        GameScreen screen = new GameScreen(new KeyboardInput());
+        //--ansi redraws the board in place
+        boolean ansiRedraw = args.length > 0 && args[0].equals("--ansi");
+        GameScreen screen = new GameScreen(new KeyboardInput(), System.out, ansiRedraw);
         Game game = new Game();
+        game.setComputerStrategy(loadComputerStrategy());
+        //the screen follows the moves, so the board is not read back and copied after each of them
+        game.addListener(screen);
 
         screen.showFramedMessage("*", "TIC-TAC-TOE");
 
@@ -28,7 +40,7 @@ public class Main {
             }
         }
 
-        screen.showGameBoard(game.getGameBoard());
+        screen.showGameBoard();
         screen.showPlayerInfo(game.getPlayers());
 
         while(game.getGameStatus().equals(GameStatus.UNSETTLED)) {
@@ -36,13 +48,14 @@ public class Main {
             while (cell == -1) {
                 try {
                     cell = screen.chooseCell(game.getCurrentlyPlayingPlayer().symbol());
-                    game.insertSymbolIntoCellN(cell);
+                    int result = game.tryMove(cell);
+                    if(result != MoveResult.ACCEPTED) screen.showError(MoveResult.describe(result, game.getCellsInRow() * game.getCellsInRow()));
                 } catch (Exception e) {
                     cell = 0;
                     screen.showError(e.getMessage());
                 }
             }
-            screen.showGameBoard(game.getGameBoard());
+            screen.showGameBoard();
             screen.showPlayerInfo(game.getPlayers());
         }
 
@@ -52,5 +65,14 @@ public class Main {
             screen.showFramedMessage("$", game.getWinner().name() + " wins!");
         }
     }
-}
 
+    //tablebases are optional (gradle generateTablebases), the search plays whatever they do not cover
+    private static MoveStrategy loadComputerStrategy() {
+        MoveStrategy search = new AlphaBetaStrategy(50);
+        try {
+            return TablebaseStrategy.load(Path.of("tablebases"), search);
+        } catch (IOException e) {
+            return search;
+        }
+    }
+}
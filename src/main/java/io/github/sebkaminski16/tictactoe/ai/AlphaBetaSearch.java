@@ -0,0 +1,275 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import io.github.sebkaminski16.tictactoe.logic.ZobristKeys;
+
+import java.util.Arrays;
+
+//negamax with alpha-beta pruning over one private copy of the board, moves are played and taken back in place
+//all buffers are allocated up front, so the search itself produces no garbage - and with reset the same search
+//serves every move of a board size
+class AlphaBetaSearch {
+    static final int WIN_SCORE = 1_000_000;
+    static final int INFINITY = WIN_SCORE + 1;
+    //scores beyond it are wins or losses, the distance to the end of the game is encoded below WIN_SCORE
+    static final int PROVEN_SCORE = WIN_SCORE - 1024;
+
+    private static final int TIME_CHECK_INTERVAL = 1023;
+    private static final int TABLE_MOVE_BONUS = 1 << 30;
+    private static final int WINNING_MOVE_BONUS = 1 << 29;
+    private static final int BLOCKING_MOVE_BONUS = 1 << 28;
+    private static final int MAX_LINE_WEIGHT_SHIFT = 14;
+
+    private final BitBoard board;
+    private final ZobristKeys keys;
+    private final TranspositionTable table;
+    private final CandidateMoves candidates;
+    private final int winLength;
+    private final int[] lineWeights;
+    private final int[][] cellLines;
+    private final int[] cellWeights;
+    private final int[] history;
+    private final int[][] moveBuffers;
+    private final int[][] moveScores;
+    private long deadline = Long.MAX_VALUE;
+    private boolean aborted = false;
+    private long nodes = 0;
+    private long tableProbes = 0;
+    private long tableHits = 0;
+    private int bestMove = -1;
+
+    AlphaBetaSearch(BitBoard board, ZobristKeys keys, TranspositionTable table) {
+        this.board = board;
+        this.keys = keys;
+        this.table = table;
+        this.candidates = new CandidateMoves(board);
+        this.winLength = board.getWinLength();
+        int cellCount = board.getCellCount();
+
+        this.lineWeights = new int[this.winLength + 1];
+        for(int i = 1; i <= this.winLength; i++) {
+            this.lineWeights[i] = 1 << Math.min(2 * (i - 1), MAX_LINE_WEIGHT_SHIFT);
+        }
+
+        //center and diagonal cells lie on more lines, so they are tried first when nothing better is known
+        this.cellLines = new int[cellCount][];
+        this.cellWeights = new int[cellCount];
+        for(int cell = 0; cell < cellCount; cell++) {
+            this.cellLines[cell] = board.getLinesThroughCell(cell);
+            this.cellWeights[cell] = this.cellLines[cell].length;
+        }
+
+        //per ply, allocated the first time the search gets that deep
+        this.history = new int[cellCount];
+        this.moveBuffers = new int[cellCount + 1][];
+        this.moveScores = new int[cellCount + 1][];
+    }
+
+    //prepares the search for a new position of the same size and rules, nothing is allocated
+    void reset(BitBoard position, long deadlineNanoTime) {
+        this.board.copyFrom(position);
+        this.candidates.reset(this.board);
+        Arrays.fill(this.history, 0);
+        this.deadline = deadlineNanoTime;
+        this.aborted = false;
+        this.nodes = 0;
+        this.tableProbes = 0;
+        this.tableHits = 0;
+        this.bestMove = -1;
+    }
+
+    //a search for this board can be reused through reset
+    boolean fits(BitBoard position, ZobristKeys keys) {
+        return this.keys == keys && this.board.hasSameGeometry(position);
+    }
+
+    void setDeadline(long deadlineNanoTime) {
+        this.deadline = deadlineNanoTime;
+    }
+
+    boolean isAborted() {
+        return this.aborted;
+    }
+
+    long getNodes() {
+        return this.nodes;
+    }
+
+    long getTableProbes() {
+        return this.tableProbes;
+    }
+
+    long getTableHits() {
+        return this.tableHits;
+    }
+
+    int getBestMove() {
+        return this.bestMove;
+    }
+
+    //fills rootMoves with the empty cells in search order, returns their count
+    int generateRootMoves(int[] rootMoves, Symbol symbol, long hash) {
+        long entry = this.table.probe(hash);
+        this.tableProbes++;
+        if(entry != TranspositionTable.NO_ENTRY) this.tableHits++;
+        int tableMove = entry == TranspositionTable.NO_ENTRY ? -1 : TranspositionTable.bestMove(entry);
+        int count = this.generateMoves(0, tableMove, symbol);
+        System.arraycopy(this.moveBuffers[0], 0, rootMoves, 0, count);
+        return count;
+    }
+
+    //searches the root moves in the given order, returns the best score and remembers its move
+    int searchRoot(int[] rootMoves, int count, int depth, int alpha, int beta, Symbol symbol, long hash) {
+        int bestScore = -INFINITY;
+        for(int i = 0; i < count; i++) {
+            int move = rootMoves[i];
+            int score = this.scoreMove(move, depth, 0, alpha, beta, symbol, hash);
+            if(this.aborted) return bestScore;
+            if(score > bestScore) {
+                bestScore = score;
+                this.bestMove = move;
+            }
+            if(score > alpha) alpha = score;
+            if(alpha >= beta) break;
+        }
+        return bestScore;
+    }
+
+    //plays the move, searches the rest of the tree and takes the move back - score is from the mover's point of view
+    int scoreMove(int move, int depth, int ply, int alpha, int beta, Symbol symbol, long hash) {
+        int score;
+        if(this.board.place(move, symbol)) {
+            score = WIN_SCORE - ply - 1;
+        } else if(this.board.isFull()) {
+            score = 0;
+        } else {
+            long childHash = hash ^ this.keys.key(move, symbol) ^ this.keys.sideToMoveKey();
+            this.candidates.add(move);
+            score = -this.search(depth - 1, ply + 1, -beta, -alpha, opposite(symbol), childHash);
+            this.candidates.remove(move);
+        }
+        this.board.remove(move, symbol);
+        return score;
+    }
+
+    private int search(int depth, int ply, int alpha, int beta, Symbol symbol, long hash) {
+        this.nodes++;
+        if((this.nodes & TIME_CHECK_INTERVAL) == 0 && System.nanoTime() > this.deadline) this.aborted = true;
+        if(this.aborted) return 0;
+
+        int alphaOriginal = alpha;
+        int tableMove = -1;
+        long entry = this.table.probe(hash);
+        this.tableProbes++;
+        if(entry != TranspositionTable.NO_ENTRY) this.tableHits++;
+        if(entry != TranspositionTable.NO_ENTRY) {
+            tableMove = TranspositionTable.bestMove(entry);
+            if(TranspositionTable.depth(entry) >= depth) {
+                int score = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if(bound == TranspositionTable.EXACT) return score;
+                if(bound == TranspositionTable.LOWER_BOUND && score > alpha) alpha = score;
+                if(bound == TranspositionTable.UPPER_BOUND && score < beta) beta = score;
+                if(alpha >= beta) return score;
+            }
+        }
+
+        if(depth == 0) return this.evaluate(symbol);
+
+        int count = this.generateMoves(ply, tableMove, symbol);
+        int[] moves = this.moveBuffers[ply];
+        int bestScore = -INFINITY;
+        int bestMove = moves[0];
+        for(int i = 0; i < count; i++) {
+            int move = moves[i];
+            int score = this.scoreMove(move, depth, ply, alpha, beta, symbol, hash);
+            if(this.aborted) return 0;
+            if(score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            if(score > alpha) alpha = score;
+            if(alpha >= beta) {
+                this.history[move] += depth * depth;
+                break;
+            }
+        }
+
+        int bound = bestScore <= alphaOriginal ? TranspositionTable.UPPER_BOUND
+                : bestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        this.table.store(hash, toTable(bestScore, ply), bestMove, Math.min(depth, 0xFF), bound);
+        return bestScore;
+    }
+
+    //table move first, then moves that win or block a win, then by history and static weight
+    private int generateMoves(int ply, int tableMove, Symbol symbol) {
+        if(this.moveBuffers[ply] == null) {
+            this.moveBuffers[ply] = new int[this.cellWeights.length];
+            this.moveScores[ply] = new int[this.cellWeights.length];
+        }
+        int[] moves = this.moveBuffers[ply];
+        int[] scores = this.moveScores[ply];
+        Symbol opponent = opposite(symbol);
+        int count = 0;
+        //the candidates near the symbols first - all the empty cells only when none of them is left
+        for(int pass = 0; pass < 2 && count == 0; pass++) {
+            for(int i = 0; i < this.board.getFreeCellCount(); i++) {
+                int cell = this.board.getFreeCell(i);
+                if(pass == 0 && !this.candidates.isCandidate(cell)) continue;
+                int score = this.history[cell] + this.cellWeights[cell];
+                if(cell == tableMove) score += TABLE_MOVE_BONUS;
+                boolean winning = false;
+                boolean blocking = false;
+                for(int line : this.cellLines[cell]) {
+                    int mine = this.board.getSymbolsInLine(symbol, line);
+                    int theirs = this.board.getSymbolsInLine(opponent, line);
+                    if(mine == this.winLength - 1 && theirs == 0) winning = true;
+                    else if(theirs == this.winLength - 1 && mine == 0) blocking = true;
+                }
+                if(winning) score += WINNING_MOVE_BONUS;
+                else if(blocking) score += BLOCKING_MOVE_BONUS;
+                int position = count++;
+                while(position > 0 && scores[position - 1] < score) {
+                    moves[position] = moves[position - 1];
+                    scores[position] = scores[position - 1];
+                    position--;
+                }
+                moves[position] = cell;
+                scores[position] = score;
+            }
+        }
+        return count;
+    }
+
+    //lines still open for one side only count for that side, the more symbols the more they are worth
+    //kept clear of the proven scores whatever the number of lines
+    private int evaluate(Symbol symbol) {
+        Symbol opponent = opposite(symbol);
+        long score = 0;
+        for(int line = 0; line < this.board.getNumberOfLines(); line++) {
+            int mine = this.board.getSymbolsInLine(symbol, line);
+            int theirs = this.board.getSymbolsInLine(opponent, line);
+            if(theirs == 0) score += this.lineWeights[mine];
+            else if(mine == 0) score -= this.lineWeights[theirs];
+        }
+        return (int) Math.max(-PROVEN_SCORE + 1, Math.min(PROVEN_SCORE - 1, score));
+    }
+
+    //proven scores are stored relative to the stored position, not to the root
+    private static int toTable(int score, int ply) {
+        if(score > PROVEN_SCORE) return score + ply;
+        if(score < -PROVEN_SCORE) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if(score > PROVEN_SCORE) return score - ply;
+        if(score < -PROVEN_SCORE) return score + ply;
+        return score;
+    }
+
+    static Symbol opposite(Symbol symbol) {
+        return symbol == Symbol.X ? Symbol.O : Symbol.X;
+    }
+}
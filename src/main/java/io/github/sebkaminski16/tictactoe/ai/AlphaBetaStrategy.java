@@ -0,0 +1,97 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.EngineMetrics;
+import io.github.sebkaminski16.tictactoe.logic.SeededMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import io.github.sebkaminski16.tictactoe.logic.ZobristKeys;
+
+//iterative deepening alpha-beta - each iteration starts from the best move of the previous one
+//and the search stops at the time budget, answering with the result of the last finished iteration
+public class AlphaBetaStrategy implements SeededMoveStrategy {
+    private static final int DEFAULT_TABLE_SIZE_IN_BITS = 20;
+
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private final TranspositionTable table;
+    private ZobristKeys keys = null;
+    //kept for the next move, created again only for another board size or rules
+    private AlphaBetaSearch search = null;
+    private int[] rootMoves = null;
+    private long lastSearchNodes = 0;
+    private int lastSearchDepth = 0;
+
+    public AlphaBetaStrategy(long maxMillisPerMove) {
+        this(maxMillisPerMove, DEFAULT_TABLE_SIZE_IN_BITS);
+    }
+
+    public AlphaBetaStrategy(long maxMillisPerMove, int tableSizeInBits) {
+        this(maxMillisPerMove, tableSizeInBits, Integer.MAX_VALUE);
+    }
+
+    //stops deepening at maxDepth as well - a search that always ends there plays the same moves on any machine
+    public AlphaBetaStrategy(long maxMillisPerMove, int tableSizeInBits, int maxDepth) {
+        if(maxMillisPerMove <= 0) throw new IncorrectStrategyConfigurationException("Time budget per move has to be positive!");
+        if(maxDepth <= 0) throw new IncorrectStrategyConfigurationException("Search depth has to be positive!");
+        this.timeBudgetNanos = maxMillisPerMove * 1_000_000;
+        this.maxDepth = maxDepth;
+        this.table = new TranspositionTable(tableSizeInBits);
+    }
+
+    public long getLastSearchNodes() {
+        return this.lastSearchNodes;
+    }
+
+    public int getLastSearchDepth() {
+        return this.lastSearchDepth;
+    }
+
+    //the search has no randomness - starting over only forgets the positions of the previous games
+    @Override
+    public void reseed(long seed) {
+        this.table.clear();
+    }
+
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        long deadline = System.nanoTime() + this.timeBudgetNanos;
+        if(this.keys == null || this.keys.getCellCount() != board.getCellCount()) this.keys = ZobristKeys.of(board.getCellCount());
+        if(this.search == null || !this.search.fits(board, this.keys)) {
+            this.search = new AlphaBetaSearch(board.copy(), this.keys, this.table);
+            this.rootMoves = new int[board.getCellCount()];
+            this.table.clear();
+        }
+        this.table.newSearch();
+
+        AlphaBetaSearch search = this.search;
+        search.reset(board, deadline);
+        long hash = this.keys.hash(board, symbol);
+        int[] rootMoves = this.rootMoves;
+        int count = search.generateRootMoves(rootMoves, symbol, hash);
+
+        int bestMove = rootMoves[0];
+        int maxDepth = Math.min(this.maxDepth, board.getCellCount() - board.getMoveCount());
+        this.lastSearchDepth = 0;
+        for(int depth = 1; depth <= maxDepth; depth++) {
+            int score = search.searchRoot(rootMoves, count, depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY, symbol, hash);
+            if(search.isAborted()) break;
+            bestMove = search.getBestMove();
+            moveToFront(rootMoves, count, bestMove);
+            this.lastSearchDepth = depth;
+            if(Math.abs(score) > AlphaBetaSearch.PROVEN_SCORE) break;
+        }
+        this.lastSearchNodes = search.getNodes();
+        if(EngineMetrics.enabled()) EngineMetrics.recordSearch(search.getNodes(), search.getTableProbes(), search.getTableHits());
+        return bestMove;
+    }
+
+    static void moveToFront(int[] moves, int count, int move) {
+        for(int i = 0; i < count; i++) {
+            if(moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+
+import java.util.Arrays;
+
+//with k in a row on a large board only cells near the symbols already placed are worth considering
+//keeps, for every cell, the number of symbols within the radius (updated incrementally as moves are played and taken back)
+//with full line rules every cell lies on a line that can still matter, so every empty cell stays a candidate
+class CandidateMoves {
+    private static final int RADIUS = 2;
+
+    private final int cellsInRow;
+    private final boolean sparse;
+    private final int[] nearbySymbols;
+    private int symbols = 0;
+
+    CandidateMoves(BitBoard board) {
+        this.cellsInRow = board.getCellsInRow();
+        this.sparse = isSparse(board);
+        this.nearbySymbols = new int[board.getCellCount()];
+        this.reset(board);
+    }
+
+    //counts the symbols of the board again, it has to have the size the candidates were created for
+    void reset(BitBoard board) {
+        if(!this.sparse) return;
+        Arrays.fill(this.nearbySymbols, 0);
+        this.symbols = 0;
+        for(int cell = 0; cell < board.getCellCount(); cell++) {
+            if(!board.isEmpty(cell)) this.add(cell);
+        }
+    }
+
+    static boolean isSparse(BitBoard board) {
+        return board.getWinLength() < board.getCellsInRow();
+    }
+
+    //an empty board has a single candidate: the center
+    boolean isCandidate(int cell) {
+        if(!this.sparse) return true;
+        if(this.symbols == 0) return cell == (this.cellsInRow / 2) * this.cellsInRow + this.cellsInRow / 2;
+        return this.nearbySymbols[cell] > 0;
+    }
+
+    void add(int cell) {
+        if(this.sparse) this.update(cell, 1);
+    }
+
+    void remove(int cell) {
+        if(this.sparse) this.update(cell, -1);
+    }
+
+    //the same test without any state, for callers that cannot follow every move
+    static boolean isNearSymbol(BitBoard board, int cell) {
+        if(!isSparse(board)) return true;
+        int n = board.getCellsInRow();
+        if(board.getMoveCount() == 0) return cell == (n / 2) * n + n / 2;
+        int row = cell / n;
+        int column = cell % n;
+        for(int r = Math.max(0, row - RADIUS); r <= Math.min(n - 1, row + RADIUS); r++) {
+            for(int c = Math.max(0, column - RADIUS); c <= Math.min(n - 1, column + RADIUS); c++) {
+                if(!board.isEmpty(r * n + c)) return true;
+            }
+        }
+        return false;
+    }
+
+    private void update(int cell, int delta) {
+        this.symbols += delta;
+        int n = this.cellsInRow;
+        int row = cell / n;
+        int column = cell % n;
+        for(int r = Math.max(0, row - RADIUS); r <= Math.min(n - 1, row + RADIUS); r++) {
+            for(int c = Math.max(0, column - RADIUS); c <= Math.min(n - 1, column + RADIUS); c++) {
+                this.nearbySymbols[r * n + c] += delta;
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.BoardSymmetries;
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+//proves the game-theoretic value of a board size - win, draw or loss for the player who starts - with alpha-beta
+//over the three outcomes; every result is kept by canonical key, so the 8 rotations and reflections of a position
+//are solved once, in SolvedPositions, which moves to disk whatever does not fit into memory
+//forced moves do not branch - a win is taken, a single threat of the opponent is blocked, two of them lose - and
+//once a player cannot complete any line any more that player's side of the window closes at a draw
+//outcomes are the ones of the tablebases: Tablebase.LOSS, DRAW and WIN, from the view of the player to move
+//usage: GameSolver [SMALL|MEDIUM|LARGE] [X|O] [table size in bits] [spill directory]
+public class GameSolver implements MoveStrategy, AutoCloseable {
+    public static final int DEFAULT_TABLE_SIZE_IN_BITS = 22;
+    private static final long PROGRESS_INTERVAL = (1L << 24) - 1;
+    private static final int CROSS_CHECK_GAMES = 200;
+
+    private final GameBoardSize size;
+    private final Symbol startingSymbol;
+    private final long[] winLines;
+    private final long fullMask;
+    private final int winLength;
+    private final int[] cellOrder;
+    private final BoardSymmetries symmetries;
+    private final SolvedPositions solved;
+    private PrintStream progress = null;
+    private long positions = 0;
+    private long nanos = 0;
+    private long start = 0;
+
+    public GameSolver(GameBoardSize size, Symbol startingSymbol) {
+        this(size, startingSymbol, DEFAULT_TABLE_SIZE_IN_BITS, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public GameSolver(GameBoardSize size, Symbol startingSymbol, int tableSizeInBits, Path spillDirectory) {
+        this.size = size;
+        this.startingSymbol = startingSymbol;
+        this.winLines = BitBoard.getWinLines(size);
+        this.winLength = size.getValue();
+        int cellCount = size.getValue() * size.getValue();
+        this.fullMask = (1L << cellCount) - 1;
+        this.symmetries = new BoardSymmetries(size.getValue());
+
+        //cells on more lines first - the center, then the diagonals
+        BitBoard board = new BitBoard(size);
+        Integer[] order = new Integer[cellCount];
+        for(int cell = 0; cell < cellCount; cell++) {
+            order[cell] = cell;
+        }
+        Arrays.sort(order, (a, b) -> board.getLinesThroughCell(b).length - board.getLinesThroughCell(a).length);
+        this.cellOrder = new int[cellCount];
+        for(int i = 0; i < cellCount; i++) {
+            this.cellOrder[i] = order[i];
+        }
+        this.solved = new SolvedPositions(tableSizeInBits, spillDirectory);
+    }
+
+    public static void main(String[] args) throws IOException {
+        GameBoardSize size = args.length > 0 ? GameBoardSize.valueOf(args[0]) : GameBoardSize.MEDIUM;
+        Symbol startingSymbol = args.length > 1 ? Symbol.valueOf(args[1]) : Symbol.X;
+        int tableSizeInBits = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TABLE_SIZE_IN_BITS;
+        Path spillDirectory = Path.of(args.length > 3 ? args[3] : System.getProperty("java.io.tmpdir"));
+        try(GameSolver solver = new GameSolver(size, startingSymbol, tableSizeInBits, spillDirectory)) {
+            solver.setProgress(System.out);
+            int outcome = solver.solve();
+            System.out.println(solver.formatProgress());
+            System.out.printf("%s, %s starts: %s%n", size, startingSymbol, switch(outcome) {
+                case Tablebase.WIN -> startingSymbol + " wins";
+                case Tablebase.LOSS -> (startingSymbol == Symbol.X ? Symbol.O : Symbol.X) + " wins";
+                default -> "draw";
+            });
+            solver.setProgress(null);
+            System.out.printf("cross-check against Game: %d of %d games disagree%n", solver.crossCheck(CROSS_CHECK_GAMES, 21), CROSS_CHECK_GAMES);
+        }
+    }
+
+    public GameBoardSize getSize() {
+        return this.size;
+    }
+
+    public long getPositions() {
+        return this.positions;
+    }
+
+    //time spent solving so far
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    //prints a progress line every 16M positions, null for none
+    public void setProgress(PrintStream progress) {
+        this.progress = progress;
+    }
+
+    public String formatProgress() {
+        long elapsed = this.nanos + (this.start == 0 ? 0 : System.nanoTime() - this.start);
+        Runtime runtime = Runtime.getRuntime();
+        return String.format("%,d positions, %,.0f positions/s, %,d solved in memory, %,d on disk in %d runs, heap %,d MB",
+                this.positions, this.positions / Math.max(elapsed / 1e9, 1e-9), this.solved.getEntriesInMemory(),
+                this.solved.getEntriesOnDisk(), this.solved.getRuns(), (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+    }
+
+    //SOLVING
+
+    //the value of the empty board for the starting player
+    public int solve() {
+        return this.timed(0L, 0L);
+    }
+
+    //the value of the position for the player to move - if the other player has already completed a line it is lost
+    public int solve(BitBoard board, Symbol toMove) {
+        this.checkBoard(board);
+        long mover = board.getCells(toMove);
+        long opponent = board.getCells(AlphaBetaSearch.opposite(toMove));
+        if(this.hasLine(opponent)) return Tablebase.LOSS;
+        return this.timed(mover, opponent);
+    }
+
+    //a move keeping the best outcome for the player to move, -1 on a full board
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        this.checkBoard(board);
+        long mover = board.getCells(symbol);
+        long opponent = board.getCells(AlphaBetaSearch.opposite(symbol));
+        int bestMove = -1;
+        int bestOutcome = -1;
+        for(int cell : this.cellOrder) {
+            long bit = 1L << cell;
+            if(((mover | opponent) & bit) != 0) continue;
+            long played = mover | bit;
+            int outcome;
+            if(this.hasLine(played)) return cell;
+            else if((played | opponent) == this.fullMask) outcome = Tablebase.DRAW;
+            else outcome = Tablebase.WIN - this.timed(opponent, played);
+            if(outcome > bestOutcome) {
+                bestOutcome = outcome;
+                bestMove = cell;
+            }
+        }
+        return bestMove;
+    }
+
+    private int timed(long mover, long opponent) {
+        this.start = System.nanoTime();
+        try {
+            return this.solve(mover, opponent, Tablebase.LOSS, Tablebase.WIN);
+        } finally {
+            this.nanos += System.nanoTime() - this.start;
+            this.start = 0;
+        }
+    }
+
+    //fail-soft: above alpha and below beta the result is exact, otherwise a bound on the side it failed
+    private int solve(long mover, long opponent, int alpha, int beta) {
+        this.positions++;
+        if((this.positions & PROGRESS_INTERVAL) == 0 && this.progress != null) this.progress.println(this.formatProgress());
+
+        long moverThreats = 0L;
+        long opponentThreats = 0L;
+        boolean moverCanWin = false;
+        boolean opponentCanWin = false;
+        for(long line : this.winLines) {
+            long moverCells = mover & line;
+            long opponentCells = opponent & line;
+            if(opponentCells == 0) {
+                moverCanWin = true;
+                if(Long.bitCount(moverCells) == this.winLength - 1) moverThreats |= line & ~moverCells;
+            }
+            if(moverCells == 0) {
+                opponentCanWin = true;
+                if(Long.bitCount(opponentCells) == this.winLength - 1) opponentThreats |= line & ~opponentCells;
+            }
+        }
+        if(moverThreats != 0) return Tablebase.WIN;
+        if(Long.bitCount(opponentThreats) > 1) return Tablebase.LOSS;
+        int lowest = opponentCanWin ? Tablebase.LOSS : Tablebase.DRAW;
+        int highest = moverCanWin ? Tablebase.WIN : Tablebase.DRAW;
+        if(lowest == highest) return lowest;
+        if(highest <= alpha) return highest;
+        if(lowest >= beta) return lowest;
+
+        int t = this.symmetries.canonicalTransformation(mover, opponent);
+        long key = this.symmetries.key(this.symmetries.transform(mover, t), this.symmetries.transform(opponent, t));
+        long entry = this.solved.get(key);
+        if(entry != 0) {
+            int outcome = SolvedPositions.outcome(entry);
+            int bound = SolvedPositions.bound(entry);
+            if(bound == SolvedPositions.EXACT) return outcome;
+            if(bound == SolvedPositions.LOWER_BOUND) lowest = Math.max(lowest, outcome);
+            else highest = Math.min(highest, outcome);
+            if(lowest == highest || highest <= alpha) return highest;
+            if(lowest >= beta) return lowest;
+        }
+        //what is proven narrows the window, a result on such an edge is then exact
+        boolean alphaProven = lowest > alpha;
+        boolean betaProven = highest < beta;
+        alpha = Math.max(alpha, lowest);
+        beta = Math.min(beta, highest);
+        int alphaStart = alpha;
+
+        int best = Tablebase.LOSS - 1;
+        long moves = opponentThreats != 0 ? opponentThreats : ~(mover | opponent) & this.fullMask;
+        for(int cell : this.cellOrder) {
+            long bit = 1L << cell;
+            if((moves & bit) == 0) continue;
+            long played = mover | bit;
+            int outcome = (played | opponent) == this.fullMask ? Tablebase.DRAW
+                    : Tablebase.WIN - this.solve(opponent, played, Tablebase.WIN - beta, Tablebase.WIN - alpha);
+            if(outcome > best) {
+                best = outcome;
+                if(best > alpha) alpha = best;
+                if(alpha >= beta) break;
+            }
+        }
+
+        int bound;
+        if(best <= alphaStart) bound = alphaProven ? SolvedPositions.EXACT : SolvedPositions.UPPER_BOUND;
+        else if(best >= beta) bound = betaProven ? SolvedPositions.EXACT : SolvedPositions.LOWER_BOUND;
+        else bound = SolvedPositions.EXACT;
+        if(bound == SolvedPositions.EXACT) best = Math.max(lowest, Math.min(highest, best));
+        this.solved.put(key, bound, best);
+        return best;
+    }
+
+    private boolean hasLine(long cells) {
+        for(long line : this.winLines) {
+            if((cells & line) == line) return true;
+        }
+        return false;
+    }
+
+    private void checkBoard(BitBoard board) {
+        if(board.getCellsInRow() != this.size.getValue() || board.getWinLength() != this.winLength)
+            throw new IncorrectStrategyConfigurationException("The solver only plays " + this.size + " boards with full line rules!");
+    }
+
+    //CROSS-CHECK
+
+    //plays the proven outcome out on Game: the solver takes the side that does not lose and plays its best moves, the
+    //other side moves at random - returns the number of games Game ends differently than proven
+    public int crossCheck(int games, long seed) {
+        int outcome = this.solve();
+        boolean solverStarts = outcome != Tablebase.LOSS;
+        MoveStrategy randomMoves = new RandomMoveStrategy(new SplittableRandom(seed));
+        Game game = new Game();
+        game.configure(this.size.getValue(), this.size.getValue(), this.startingSymbol, solverStarts ? "Solver" : "Random", solverStarts ? "Random" : "Solver");
+        int mismatches = 0;
+        for(int i = 0; i < games; i++) {
+            game.reset();
+            while(game.getGameStatus() == GameStatus.UNSETTLED) {
+                game.insertSymbolChosenBy(game.getCurrentlyPlayingPlayer().name().equals("Solver") ? this : randomMoves);
+            }
+            boolean solverWon = game.getWinner() != null && game.getWinner().name().equals("Solver");
+            boolean solverLost = game.getWinner() != null && !solverWon;
+            boolean proven = outcome == Tablebase.DRAW ? !solverLost : solverWon;
+            if(!proven) mismatches++;
+        }
+        return mismatches;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.solved.close();
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+public class IncorrectStrategyConfigurationException extends RuntimeException {
+    public IncorrectStrategyConfigurationException(String message) {
+        super(message);
+    }
+}
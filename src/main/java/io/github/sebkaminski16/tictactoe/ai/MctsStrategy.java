@@ -0,0 +1,234 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.EngineMetrics;
+import io.github.sebkaminski16.tictactoe.logic.SeededMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.util.SplittableRandom;
+
+//monte carlo tree search with UCT selection
+//the tree lives in parallel primitive arrays allocated once per strategy, node 0 is the root and the children
+//of a node are allocated together in one block - when the pool runs out the tree just stops growing
+//playouts are random games on one copy of the board, played and taken back in place
+public class MctsStrategy implements SeededMoveStrategy {
+    private static final int DEFAULT_MAX_NODES = 1 << 18;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int TIME_CHECK_INTERVAL = 255;
+    private static final byte NOT_TERMINAL = 0;
+    private static final byte WON_BY_MOVER = 1;
+    private static final byte TIED = 2;
+
+    private final long timeBudgetNanos;
+    private final int maxIterations;
+    private SplittableRandom random;
+
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] move;
+    private final int[] visits;
+    //from the point of view of the player who made the node's move: 1 per win, 0.5 per tie
+    private final double[] reward;
+    private final byte[] terminal;
+    private int nodeCount = 0;
+
+    private int[] path = new int[0];
+    private int[] playoutCells = new int[0];
+    private int[] playoutMoves = new int[0];
+    private long lastIterations = 0;
+
+    public MctsStrategy(long maxMillisPerMove) {
+        this(maxMillisPerMove, Integer.MAX_VALUE, DEFAULT_MAX_NODES, new SplittableRandom());
+    }
+
+    public MctsStrategy(long maxMillisPerMove, int maxIterations, int maxNodes, SplittableRandom random) {
+        if(maxMillisPerMove <= 0) throw new IncorrectStrategyConfigurationException("Time budget per move has to be positive!");
+        if(maxIterations <= 0) throw new IncorrectStrategyConfigurationException("Number of iterations per move has to be positive!");
+        if(maxNodes <= 0) throw new IncorrectStrategyConfigurationException("Size of the node pool has to be positive!");
+        this.timeBudgetNanos = maxMillisPerMove * 1_000_000;
+        this.maxIterations = maxIterations;
+        this.random = random;
+        this.firstChild = new int[maxNodes];
+        this.childCount = new int[maxNodes];
+        this.move = new int[maxNodes];
+        this.visits = new int[maxNodes];
+        this.reward = new double[maxNodes];
+        this.terminal = new byte[maxNodes];
+    }
+
+    public long getLastIterations() {
+        return this.lastIterations;
+    }
+
+    public int getLastTreeSize() {
+        return this.nodeCount;
+    }
+
+    //the tree is built anew for every move anyway, only the random numbers start over
+    @Override
+    public void reseed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        long deadline = System.nanoTime() + this.timeBudgetNanos;
+        BitBoard playoutBoard = board.copy();
+        int cellCount = board.getCellCount();
+        if(this.playoutCells.length < cellCount) {
+            this.path = new int[cellCount + 1];
+            this.playoutCells = new int[cellCount];
+            this.playoutMoves = new int[cellCount];
+        }
+
+        this.nodeCount = 1;
+        this.initNode(0, -1, NOT_TERMINAL);
+        //the root is "moved into" by the opponent
+        Symbol rootMover = AlphaBetaSearch.opposite(symbol);
+
+        long iterations = 0;
+        while(iterations < this.maxIterations) {
+            if((iterations & TIME_CHECK_INTERVAL) == 0 && iterations > 0 && System.nanoTime() > deadline) break;
+            this.iterate(playoutBoard, rootMover);
+            iterations++;
+        }
+        this.lastIterations = iterations;
+        if(EngineMetrics.enabled()) EngineMetrics.recordPlayouts(iterations);
+
+        int best = -1;
+        for(int child = this.firstChild[0]; child < this.firstChild[0] + this.childCount[0]; child++) {
+            if(best == -1 || this.visits[child] > this.visits[best]) best = child;
+        }
+        if(best != -1) return this.move[best];
+        //not even one iteration fitted into the budget
+        for(int cell = 0; cell < cellCount; cell++) {
+            if(board.isEmpty(cell)) return cell;
+        }
+        return -1;
+    }
+
+    private void iterate(BitBoard board, Symbol rootMover) {
+        //selection - down the tree while nodes are expanded
+        int depth = 0;
+        int node = 0;
+        Symbol mover = rootMover;
+        this.path[depth++] = node;
+        while(this.terminal[node] == NOT_TERMINAL && this.childCount[node] > 0) {
+            node = this.selectChild(node);
+            mover = AlphaBetaSearch.opposite(mover);
+            this.path[depth++] = node;
+            board.place(this.move[node], mover);
+        }
+
+        //expansion - one block of children for the empty cells
+        byte outcome = this.terminal[node];
+        if(outcome == NOT_TERMINAL && this.expand(node, board, mover)) {
+            node = this.firstChild[node] + this.random.nextInt(this.childCount[node]);
+            mover = AlphaBetaSearch.opposite(mover);
+            this.path[depth++] = node;
+            board.place(this.move[node], mover);
+            outcome = this.terminal[node];
+        }
+
+        //simulation
+        double moverReward;
+        if(outcome == WON_BY_MOVER) moverReward = 1.0;
+        else if(outcome == TIED) moverReward = 0.5;
+        else moverReward = this.playout(board, mover);
+
+        //backpropagation - taking the tree moves back on the way up
+        for(int i = depth - 1; i >= 0; i--) {
+            int pathNode = this.path[i];
+            this.visits[pathNode]++;
+            this.reward[pathNode] += moverReward;
+            moverReward = 1.0 - moverReward;
+            if(i > 0) {
+                board.remove(this.move[pathNode], mover);
+                mover = AlphaBetaSearch.opposite(mover);
+            }
+        }
+    }
+
+    private int selectChild(int node) {
+        double logParentVisits = Math.log(this.visits[node]);
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for(int child = this.firstChild[node]; child < this.firstChild[node] + this.childCount[node]; child++) {
+            int childVisits = this.visits[child];
+            if(childVisits == 0) return child;
+            double value = this.reward[child] / childVisits + EXPLORATION * Math.sqrt(logParentVisits / childVisits);
+            if(value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    //returns false when the node pool has no room for the children or no cell qualifies
+    //with k in a row on a large board only the cells near the symbols already placed get a child
+    //one pass over the free cells writes the candidates straight into the moves of the new block,
+    //the block only becomes part of the tree once it is complete
+    private boolean expand(int node, BitBoard board, Symbol mover) {
+        int first = this.nodeCount;
+        int end = first;
+        for(int i = 0; i < board.getFreeCellCount(); i++) {
+            int cell = board.getFreeCell(i);
+            if(!CandidateMoves.isNearSymbol(board, cell)) continue;
+            if(end == this.move.length) return false;
+            this.move[end++] = cell;
+        }
+        if(end == first) return false;
+        Symbol childMover = AlphaBetaSearch.opposite(mover);
+        for(int child = first; child < end; child++) {
+            int cell = this.move[child];
+            byte outcome;
+            if(board.place(cell, childMover)) outcome = WON_BY_MOVER;
+            else if(board.isFull()) outcome = TIED;
+            else outcome = NOT_TERMINAL;
+            board.remove(cell, childMover);
+            this.initNode(child, cell, outcome);
+        }
+        this.nodeCount = end;
+        this.firstChild[node] = first;
+        this.childCount[node] = end - first;
+        return true;
+    }
+
+    //random game from the current position, returns the reward of the player who made the last tree move
+    private double playout(BitBoard board, Symbol lastMover) {
+        int empty = board.getFreeCellCount();
+        for(int i = 0; i < empty; i++) {
+            this.playoutCells[i] = board.getFreeCell(i);
+        }
+        int played = 0;
+        Symbol symbol = lastMover;
+        Symbol winner = null;
+        while(empty > 0) {
+            symbol = AlphaBetaSearch.opposite(symbol);
+            int index = this.random.nextInt(empty);
+            int cell = this.playoutCells[index];
+            this.playoutCells[index] = this.playoutCells[--empty];
+            this.playoutMoves[played++] = cell;
+            if(board.place(cell, symbol)) {
+                winner = symbol;
+                break;
+            }
+        }
+        for(int i = played - 1; i >= 0; i--) {
+            board.remove(this.playoutMoves[i], symbol);
+            symbol = AlphaBetaSearch.opposite(symbol);
+        }
+        if(winner == null) return 0.5;
+        return winner == lastMover ? 1.0 : 0.0;
+    }
+
+    private void initNode(int node, int cell, byte outcome) {
+        this.firstChild[node] = 0;
+        this.childCount[node] = 0;
+        this.move[node] = cell;
+        this.visits[node] = 0;
+        this.reward[node] = 0.0;
+        this.terminal[node] = outcome;
+    }
+}
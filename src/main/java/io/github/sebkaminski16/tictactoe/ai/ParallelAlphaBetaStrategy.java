@@ -0,0 +1,181 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.EngineMetrics;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import io.github.sebkaminski16.tictactoe.logic.ZobristKeys;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+//iterative deepening alpha-beta split at the root (young brothers wait): the best move of the previous
+//iteration is searched first on the calling thread, then all the other root moves are searched in parallel
+//against its score - every worker owns a copy of the board, the transposition table is shared
+//the searches are kept between moves: slot 0 for the calling thread, the others taken by the tasks while they run -
+//one per pool thread, and one more for the calling thread when it helps out with the tasks of invoke
+public class ParallelAlphaBetaStrategy implements MoveStrategy, AutoCloseable {
+    private static final int DEFAULT_TABLE_SIZE_IN_BITS = 22;
+
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final AlphaBetaSearch[] searches;
+    private final AtomicIntegerArray searchesInUse;
+    private ZobristKeys keys = null;
+    private int[] rootMoves = null;
+    private int[] scores = null;
+    //the alpha every root move was searched against - a score not above it is only an upper bound
+    private int[] windows = null;
+    private long lastSearchNodes = 0;
+    private long lastSearchNanos = 0;
+    private int lastSearchDepth = 0;
+
+    public ParallelAlphaBetaStrategy(long maxMillisPerMove, int threads) {
+        this(maxMillisPerMove, threads, Integer.MAX_VALUE, DEFAULT_TABLE_SIZE_IN_BITS);
+    }
+
+    public ParallelAlphaBetaStrategy(long maxMillisPerMove, int threads, int maxDepth, int tableSizeInBits) {
+        if(maxMillisPerMove <= 0) throw new IncorrectStrategyConfigurationException("Time budget per move has to be positive!");
+        if(threads <= 0) throw new IncorrectStrategyConfigurationException("Number of search threads has to be positive!");
+        if(maxDepth <= 0) throw new IncorrectStrategyConfigurationException("Maximum search depth has to be positive!");
+        this.timeBudgetNanos = maxMillisPerMove * 1_000_000;
+        this.maxDepth = maxDepth;
+        this.pool = new ForkJoinPool(threads);
+        this.table = new TranspositionTable(tableSizeInBits);
+        this.searches = new AlphaBetaSearch[threads + 2];
+        this.searchesInUse = new AtomicIntegerArray(threads + 2);
+    }
+
+    public int getThreads() {
+        return this.pool.getParallelism();
+    }
+
+    public long getLastSearchNodes() {
+        return this.lastSearchNodes;
+    }
+
+    public long getLastSearchNanos() {
+        return this.lastSearchNanos;
+    }
+
+    public int getLastSearchDepth() {
+        return this.lastSearchDepth;
+    }
+
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        long start = System.nanoTime();
+        long deadline = start + this.timeBudgetNanos;
+        if(this.keys == null || this.keys.getCellCount() != board.getCellCount()) this.keys = ZobristKeys.of(board.getCellCount());
+        ZobristKeys keys = this.keys;
+        if(this.searches[0] == null || !this.searches[0].fits(board, keys)) {
+            for(int i = 0; i < this.searches.length; i++) {
+                this.searches[i] = new AlphaBetaSearch(board.copy(), keys, this.table);
+            }
+            this.rootMoves = new int[board.getCellCount()];
+            this.scores = new int[board.getCellCount()];
+            this.windows = new int[board.getCellCount()];
+            this.table.clear();
+        }
+        this.table.newSearch();
+        for(AlphaBetaSearch search : this.searches) {
+            search.reset(board, deadline);
+        }
+
+        AlphaBetaSearch mainSearch = this.searches[0];
+        long hash = keys.hash(board, symbol);
+        int[] rootMoves = this.rootMoves;
+        int count = mainSearch.generateRootMoves(rootMoves, symbol, hash);
+        int[] scores = this.scores;
+        int[] windows = this.windows;
+
+        int bestMove = rootMoves[0];
+        int depthLimit = Math.min(this.maxDepth, board.getCellCount() - board.getMoveCount());
+        this.lastSearchDepth = 0;
+        for(int depth = 1; depth <= depthLimit; depth++) {
+            int eldestScore = mainSearch.scoreMove(rootMoves[0], depth, 0, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY, symbol, hash);
+            if(mainSearch.isAborted()) break;
+            scores[0] = eldestScore;
+            windows[0] = -AlphaBetaSearch.INFINITY;
+
+            AtomicInteger alpha = new AtomicInteger(eldestScore);
+            List<ForkJoinTask<?>> youngerBrothers = new ArrayList<>(count);
+            for(int i = 1; i < count; i++) {
+                int index = i;
+                int searchDepth = depth;
+                youngerBrothers.add(ForkJoinTask.adapt(() -> {
+                    int slot = this.claimSearch();
+                    int score;
+                    try {
+                        int window = alpha.get();
+                        windows[index] = window;
+                        score = this.searches[slot].scoreMove(rootMoves[index], searchDepth, 0, window, AlphaBetaSearch.INFINITY, symbol, hash);
+                    } finally {
+                        this.searchesInUse.set(slot, 0);
+                    }
+                    scores[index] = score;
+                    alpha.accumulateAndGet(score, Math::max);
+                }));
+            }
+            this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(youngerBrothers)));
+            if(this.anyAborted()) break;
+
+            int best = bestRootMove(scores, windows, count);
+            bestMove = rootMoves[best];
+            AlphaBetaStrategy.moveToFront(rootMoves, count, bestMove);
+            this.lastSearchDepth = depth;
+            if(Math.abs(scores[best]) > AlphaBetaSearch.PROVEN_SCORE) break;
+        }
+
+        long nodes = 0;
+        long probes = 0;
+        long hits = 0;
+        for(AlphaBetaSearch search : this.searches) {
+            nodes += search.getNodes();
+            probes += search.getTableProbes();
+            hits += search.getTableHits();
+        }
+        this.lastSearchNodes = nodes;
+        if(EngineMetrics.enabled()) EngineMetrics.recordSearch(nodes, probes, hits);
+        this.lastSearchNanos = System.nanoTime() - start;
+        return bestMove;
+    }
+
+    //only exact scores count - a move that failed low may return a bound equal to the score of the move that
+    //raised alpha to it, and winning that tie could play a losing move; the eldest brother is always exact
+    static int bestRootMove(int[] scores, int[] windows, int count) {
+        int best = 0;
+        for(int i = 1; i < count; i++) {
+            if(scores[i] > windows[i] && scores[i] > scores[best]) best = i;
+        }
+        return best;
+    }
+
+    //a free search for a task - there are more of them than threads that can run tasks at once
+    private int claimSearch() {
+        while(true) {
+            for(int slot = 1; slot < this.searches.length; slot++) {
+                if(this.searchesInUse.get(slot) == 0 && this.searchesInUse.compareAndSet(slot, 0, 1)) return slot;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private boolean anyAborted() {
+        for(AlphaBetaSearch search : this.searches) {
+            if(search.isAborted()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+}
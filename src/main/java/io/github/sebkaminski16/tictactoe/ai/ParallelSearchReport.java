@@ -0,0 +1,38 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+//searches the same position to a fixed depth with 1, 2, 4... threads and prints nodes/sec and speedup
+//usage: ParallelSearchReport [SMALL|MEDIUM|LARGE] [depth] [max threads]
+public class ParallelSearchReport {
+    private static final long ONE_HOUR_MILLIS = 3_600_000;
+
+    public static void main(String[] args) {
+        GameBoardSize size = args.length > 0 ? GameBoardSize.valueOf(args[0]) : GameBoardSize.LARGE;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        BitBoard board = new BitBoard(size);
+        board.place(size.getValue() * size.getValue() / 2, Symbol.X);
+
+        //warm-up, so the single thread run is not measured while the JIT compiles the search
+        try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(ONE_HOUR_MILLIS, 1, depth, 22)) {
+            strategy.chooseCell(board, Symbol.O);
+        }
+
+        System.out.printf("board %s, depth %d%n", size, depth);
+        System.out.printf("%8s %12s %10s %14s %8s%n", "threads", "nodes", "ms", "nodes/sec", "speedup");
+        double singleThreadMillis = 0;
+        for(int threads = 1; threads <= maxThreads; threads = threads < maxThreads && threads * 2 > maxThreads ? maxThreads : threads * 2) {
+            try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(ONE_HOUR_MILLIS, threads, depth, 22)) {
+                strategy.chooseCell(board, Symbol.O);
+                double millis = strategy.getLastSearchNanos() / 1_000_000.0;
+                if(threads == 1) singleThreadMillis = millis;
+                System.out.printf("%8d %12d %10.1f %14.0f %8.2f%n", threads, strategy.getLastSearchNodes(), millis,
+                        strategy.getLastSearchNodes() / (millis / 1000), singleThreadMillis / millis);
+            }
+        }
+    }
+}
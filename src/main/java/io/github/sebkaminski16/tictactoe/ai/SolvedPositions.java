@@ -0,0 +1,223 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//results of GameSolver by canonical key: an open addressing table of a fixed size in memory, and once that fills up,
+//sorted runs on disk - the table is sorted, written out, memory-mapped and emptied - looked up by binary search
+//the runs are merged into one when there are too many of them, so a lookup touches at most a few files
+//entry: key << 4 | bound << 2 | outcome, a bound is never 0 so neither is an entry
+final class SolvedPositions implements AutoCloseable {
+    static final int EXACT = 1;
+    static final int LOWER_BOUND = 2;
+    static final int UPPER_BOUND = 3;
+    private static final int MAX_RUNS = 8;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final long[] table;
+    private final int spillThreshold;
+    private int count = 0;
+    //oldest first
+    private final List<LongBuffer> runs = new ArrayList<>();
+    private final List<Path> runFiles = new ArrayList<>();
+    private long runEntries = 0;
+    private int nextRun = 0;
+
+    //2^tableSizeInBits entries of 8 bytes in memory, runs are written to a new temporary directory inside the given one
+    SolvedPositions(int tableSizeInBits, Path spillDirectory) {
+        if(tableSizeInBits < 4 || tableSizeInBits > 30) throw new IncorrectStrategyConfigurationException("Table size should be from range [2^4-2^30]!");
+        this.table = new long[1 << tableSizeInBits];
+        this.spillThreshold = this.table.length / 4 * 3;
+        try {
+            this.directory = Files.createTempDirectory(spillDirectory, "solved");
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static long entry(long key, int bound, int outcome) {
+        return key << 4 | (long) bound << 2 | outcome;
+    }
+
+    static int bound(long entry) {
+        return (int) (entry >>> 2) & 3;
+    }
+
+    static int outcome(long entry) {
+        return (int) entry & 3;
+    }
+
+    int getEntriesInMemory() {
+        return this.count;
+    }
+
+    long getEntriesOnDisk() {
+        return this.runEntries;
+    }
+
+    int getRuns() {
+        return this.runs.size();
+    }
+
+    //0 if the position was not solved yet - the newest result wins
+    long get(long key) {
+        int mask = this.table.length - 1;
+        for(int index = slot(key) & mask; this.table[index] != 0; index = (index + 1) & mask) {
+            if(this.table[index] >>> 4 == key) return this.table[index];
+        }
+        for(int run = this.runs.size() - 1; run >= 0; run--) {
+            long entry = find(this.runs.get(run), key);
+            if(entry != 0) return entry;
+        }
+        return 0;
+    }
+
+    void put(long key, int bound, int outcome) {
+        long entry = entry(key, bound, outcome);
+        int mask = this.table.length - 1;
+        int index = slot(key) & mask;
+        while(this.table[index] != 0) {
+            if(this.table[index] >>> 4 == key) {
+                this.table[index] = entry;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        this.table[index] = entry;
+        if(++this.count >= this.spillThreshold) this.spill();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.runs.clear();
+        for(Path file : this.runFiles) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(this.directory);
+    }
+
+    private static int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static long find(LongBuffer run, long key) {
+        int low = 0;
+        int high = run.limit() - 1;
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleKey = run.get(middle) >>> 4;
+            if(middleKey < key) low = middle + 1;
+            else if(middleKey > key) high = middle - 1;
+            else return run.get(middle);
+        }
+        return 0;
+    }
+
+    //SPILLING
+
+    private void spill() {
+        long[] entries = new long[this.count];
+        int size = 0;
+        for(long entry : this.table) {
+            if(entry != 0) entries[size++] = entry;
+        }
+        //keys are unique within the table, so sorting the entries sorts the keys
+        Arrays.sort(entries);
+        Arrays.fill(this.table, 0L);
+        this.count = 0;
+        try {
+            this.addRun(entries, size);
+            if(this.runs.size() > MAX_RUNS) this.mergeRuns();
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void addRun(long[] entries, int size) throws IOException {
+        Path file = this.directory.resolve("run-" + this.nextRun++ + ".bin");
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            for(int i = 0; i < size; i++) {
+                if(!buffer.hasRemaining()) writeBuffer(channel, buffer);
+                buffer.putLong(entries[i]);
+            }
+            writeBuffer(channel, buffer);
+            this.runs.add(channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) size * Long.BYTES).asLongBuffer());
+        }
+        this.runFiles.add(file);
+        this.runEntries += size;
+    }
+
+    //k-way merge of all runs - of two entries of a position an exact one is kept over a bound, otherwise the newer one
+    //the merged entries go straight to the new run file through the write buffer, so merging needs no memory for them
+    private void mergeRuns() throws IOException {
+        long total = 0;
+        for(LongBuffer run : this.runs) {
+            total += run.limit();
+        }
+        //one run is mapped as a whole
+        if(total * Long.BYTES > Integer.MAX_VALUE) throw new IncorrectStrategyConfigurationException("Too many solved positions for one run!");
+        Path mergedFile = this.directory.resolve("run-" + this.nextRun++ + ".bin");
+        LongBuffer mergedRun;
+        long size = 0;
+        try(FileChannel channel = FileChannel.open(mergedFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            int[] positions = new int[this.runs.size()];
+            while(true) {
+                int smallest = -1;
+                long smallestKey = Long.MAX_VALUE;
+                for(int run = 0; run < positions.length; run++) {
+                    if(positions[run] == this.runs.get(run).limit()) continue;
+                    long key = this.runs.get(run).get(positions[run]) >>> 4;
+                    if(smallest == -1 || key < smallestKey) {
+                        smallest = run;
+                        smallestKey = key;
+                    }
+                }
+                if(smallest == -1) break;
+                long chosen = 0;
+                for(int run = 0; run < positions.length; run++) {
+                    if(positions[run] == this.runs.get(run).limit()) continue;
+                    long entry = this.runs.get(run).get(positions[run]);
+                    if(entry >>> 4 != smallestKey) continue;
+                    if(chosen == 0 || bound(entry) == EXACT || bound(chosen) != EXACT) chosen = entry;
+                    positions[run]++;
+                }
+                if(!buffer.hasRemaining()) writeBuffer(channel, buffer);
+                buffer.putLong(chosen);
+                size++;
+            }
+            writeBuffer(channel, buffer);
+            mergedRun = channel.map(FileChannel.MapMode.READ_ONLY, 0, size * Long.BYTES).asLongBuffer();
+        }
+
+        List<Path> oldFiles = new ArrayList<>(this.runFiles);
+        this.runs.clear();
+        this.runFiles.clear();
+        this.runs.add(mergedRun);
+        this.runFiles.add(mergedFile);
+        this.runEntries = size;
+        for(Path file : oldFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writeBuffer(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
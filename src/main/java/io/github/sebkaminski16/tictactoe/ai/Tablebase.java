@@ -0,0 +1,112 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.BoardSymmetries;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//perfect play for every position reachable on a board, read straight from a memory-mapped file
+//file layout (big endian):
+//  int magic, byte version, byte cells in row, byte log2 of slot count, byte unused, int number of positions, 4 bytes unused
+//  then an open addressing table of 8 byte slots: (canonical key + 1) << 16 | value << 8 | best move, 0 is an empty slot
+//positions are seen from the side to move (mover's cells in the low half of the key), reduced by the 8 board
+//symmetries, the best move is stored for the canonical orientation
+//value: bits 0-1 outcome for the side to move, bits 2-7 number of moves until the game ends with perfect play
+public class Tablebase {
+    public static final int MAGIC = 0x54545442;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int SLOT_SIZE = 8;
+    public static final int LOSS = 0;
+    public static final int DRAW = 1;
+    public static final int WIN = 2;
+    public static final int NOT_FOUND = -1;
+
+    private final ByteBuffer slots;
+    private final int cellsInRow;
+    private final int slotMask;
+    private final int positions;
+    private final BoardSymmetries symmetries;
+
+    private Tablebase(ByteBuffer buffer) {
+        if(buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) throw new TablebaseFormatException("Not a tablebase file or unsupported version!");
+        this.cellsInRow = buffer.get(5);
+        if(buffer.get(6) < 0 || buffer.get(6) > 28) throw new TablebaseFormatException("Incorrect slot count in the tablebase file!");
+        this.slotMask = (1 << buffer.get(6)) - 1;
+        this.positions = buffer.getInt(8);
+        if(buffer.capacity() != HEADER_SIZE + (long) (this.slotMask + 1) * SLOT_SIZE) throw new TablebaseFormatException("Tablebase file is truncated!");
+        this.slots = buffer;
+        this.symmetries = new BoardSymmetries(this.cellsInRow);
+    }
+
+    public static Tablebase open(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Tablebase(buffer);
+        }
+    }
+
+    public static Path fileName(Path directory, GameBoardSize size) {
+        return directory.resolve("tablebase-" + size.getValue() + "x" + size.getValue() + ".bin");
+    }
+
+    public int getCellsInRow() {
+        return this.cellsInRow;
+    }
+
+    public int getNumberOfPositions() {
+        return this.positions;
+    }
+
+    //value << 8 | best move for the position with the given side to move, NOT_FOUND if it is not in the table
+    //(other board size or rules, finished game or a position that cannot arise from the empty board)
+    public int lookup(BitBoard board, Symbol toMove) {
+        if(board.getCellsInRow() != this.cellsInRow || board.getWinLength() != this.cellsInRow) return NOT_FOUND;
+        long mover = board.getCells(toMove);
+        long opponent = board.getCells(toMove == Symbol.X ? Symbol.O : Symbol.X);
+        int t = this.symmetries.canonicalTransformation(mover, opponent);
+        long key = this.symmetries.key(this.symmetries.transform(mover, t), this.symmetries.transform(opponent, t));
+        int entry = this.find(key);
+        if(entry == NOT_FOUND) return NOT_FOUND;
+        return (entry & 0xFF00) | this.symmetries.inverseTransformCell(entry & 0xFF, t);
+    }
+
+    public static int outcome(int entry) {
+        return (entry >>> 8) & 0x3;
+    }
+
+    public static int movesToEnd(int entry) {
+        return (entry >>> 10) & 0x3F;
+    }
+
+    public static int bestMove(int entry) {
+        return entry & 0xFF;
+    }
+
+    private int find(long key) {
+        long stored = key + 1;
+        int index = slotIndex(key) & this.slotMask;
+        //a corrupt file may have no empty slot, so the probe ends after every slot was looked at
+        for(int probe = 0; probe <= this.slotMask; probe++) {
+            long slot = this.slots.getLong(HEADER_SIZE + index * SLOT_SIZE);
+            if(slot == 0) return NOT_FOUND;
+            if(slot >>> 16 == stored) return (int) (slot & 0xFFFF);
+            index = (index + 1) & this.slotMask;
+        }
+        return NOT_FOUND;
+    }
+
+    static int slotIndex(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
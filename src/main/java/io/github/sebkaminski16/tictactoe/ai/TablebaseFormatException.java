@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+public class TablebaseFormatException extends RuntimeException {
+    public TablebaseFormatException(String message) {
+        super(message);
+    }
+}
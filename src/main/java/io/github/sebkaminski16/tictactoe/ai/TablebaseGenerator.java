@@ -0,0 +1,190 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.BoardSymmetries;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+//solves every position reachable from the empty board (depth-first, memoized on canonical keys) and writes the tablebase
+//usage: TablebaseGenerator [output directory] [SMALL|MEDIUM ...]
+public class TablebaseGenerator {
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final GameBoardSize size;
+    private final long[] winLines;
+    private final long fullMask;
+    private final BoardSymmetries symmetries;
+    //open addressing, stored key is canonical key + 1 so that 0 marks an empty slot
+    private long[] memoKeys = new long[1 << 12];
+    private int[] memoEntries = new int[1 << 12];
+    private int memoCount = 0;
+
+    public TablebaseGenerator(GameBoardSize size) {
+        if(size.getValue() > GameBoardSize.MEDIUM.getValue()) throw new IncorrectStrategyConfigurationException("Tablebases can only be generated up to 4x4!");
+        this.size = size;
+        this.winLines = BitBoard.getWinLines(size);
+        int cellCount = size.getValue() * size.getValue();
+        this.fullMask = (1L << cellCount) - 1;
+        this.symmetries = new BoardSymmetries(size.getValue());
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args.length > 0 ? args[0] : "tablebases");
+        GameBoardSize[] sizes = args.length > 1
+                ? Arrays.stream(args).skip(1).map(GameBoardSize::valueOf).toArray(GameBoardSize[]::new)
+                : new GameBoardSize[]{GameBoardSize.SMALL, GameBoardSize.MEDIUM};
+        Files.createDirectories(directory);
+        for(GameBoardSize size : sizes) {
+            generate(directory, size);
+        }
+    }
+
+    private static void generate(Path directory, GameBoardSize size) throws IOException {
+        long start = System.nanoTime();
+        TablebaseGenerator generator = new TablebaseGenerator(size);
+        int entry = generator.solve();
+        Path file = Tablebase.fileName(directory, size);
+        generator.write(file);
+        System.out.printf("%s: %d positions, empty board %s, %.1f s -> %s%n", size, generator.getNumberOfPositions(),
+                switch(Tablebase.outcome(entry)) {
+                    case Tablebase.WIN -> "first player wins";
+                    case Tablebase.LOSS -> "second player wins";
+                    default -> "draw";
+                }, (System.nanoTime() - start) / 1e9, file);
+    }
+
+    public int getNumberOfPositions() {
+        return this.memoCount;
+    }
+
+    //solves the whole game, returns the entry of the empty board
+    public int solve() {
+        return this.solve(0L, 0L);
+    }
+
+    private int solve(long mover, long opponent) {
+        int t = this.symmetries.canonicalTransformation(mover, opponent);
+        long key = this.symmetries.key(this.symmetries.transform(mover, t), this.symmetries.transform(opponent, t));
+        int known = this.memoGet(key);
+        if(known != Tablebase.NOT_FOUND) return (known & 0xFF00) | this.symmetries.inverseTransformCell(known & 0xFF, t);
+
+        int bestOutcome = Tablebase.LOSS;
+        int bestMovesToEnd = 0;
+        int bestMove = -1;
+        int bestRank = Integer.MIN_VALUE;
+        long empty = ~(mover | opponent) & this.fullMask;
+        while(empty != 0) {
+            int cell = Long.numberOfTrailingZeros(empty);
+            empty &= empty - 1;
+            long played = mover | (1L << cell);
+            int outcome;
+            int movesToEnd;
+            if(this.hasLine(played)) {
+                outcome = Tablebase.WIN;
+                movesToEnd = 1;
+            } else if((played | opponent) == this.fullMask) {
+                outcome = Tablebase.DRAW;
+                movesToEnd = 1;
+            } else {
+                int child = this.solve(opponent, played);
+                outcome = Tablebase.WIN - Tablebase.outcome(child);
+                movesToEnd = Tablebase.movesToEnd(child) + 1;
+            }
+            //win as fast as possible, lose as slowly as possible
+            int rank = outcome == Tablebase.WIN ? 1000 - movesToEnd : outcome == Tablebase.DRAW ? 0 : movesToEnd - 1000;
+            if(rank > bestRank) {
+                bestRank = rank;
+                bestOutcome = outcome;
+                bestMovesToEnd = movesToEnd;
+                bestMove = cell;
+            }
+            if(outcome == Tablebase.WIN && movesToEnd == 1) break;
+        }
+
+        int value = bestOutcome | (bestMovesToEnd << 2);
+        this.memoPut(key, (value << 8) | this.symmetries.transformCell(bestMove, t));
+        return (value << 8) | bestMove;
+    }
+
+    private boolean hasLine(long cells) {
+        for(long line : this.winLines) {
+            if((cells & line) == line) return true;
+        }
+        return false;
+    }
+
+    private int memoGet(long key) {
+        int mask = this.memoKeys.length - 1;
+        int index = Tablebase.slotIndex(key) & mask;
+        while(this.memoKeys[index] != 0) {
+            if(this.memoKeys[index] == key + 1) return this.memoEntries[index];
+            index = (index + 1) & mask;
+        }
+        return Tablebase.NOT_FOUND;
+    }
+
+    private void memoPut(long key, int entry) {
+        if(this.memoCount * 2 >= this.memoKeys.length) this.growMemo();
+        insert(this.memoKeys, this.memoEntries, key, entry);
+        this.memoCount++;
+    }
+
+    private void growMemo() {
+        long[] oldKeys = this.memoKeys;
+        int[] oldEntries = this.memoEntries;
+        this.memoKeys = new long[oldKeys.length * 2];
+        this.memoEntries = new int[oldKeys.length * 2];
+        for(int i = 0; i < oldKeys.length; i++) {
+            if(oldKeys[i] != 0) insert(this.memoKeys, this.memoEntries, oldKeys[i] - 1, oldEntries[i]);
+        }
+    }
+
+    private static void insert(long[] keys, int[] entries, long key, int entry) {
+        int mask = keys.length - 1;
+        int index = Tablebase.slotIndex(key) & mask;
+        while(keys[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key + 1;
+        entries[index] = entry;
+    }
+
+    public void write(Path file) throws IOException {
+        //about 2/3 full - short probe sequences at a fraction of a direct index
+        int slotBits = 1;
+        while((1L << slotBits) * 2 < this.memoCount * 3L) slotBits++;
+        long[] slotKeys = new long[1 << slotBits];
+        int[] slotEntries = new int[1 << slotBits];
+        for(int i = 0; i < this.memoKeys.length; i++) {
+            if(this.memoKeys[i] != 0) insert(slotKeys, slotEntries, this.memoKeys[i] - 1, this.memoEntries[i]);
+        }
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.putInt(Tablebase.MAGIC)
+                    .put(Tablebase.VERSION)
+                    .put((byte) this.size.getValue())
+                    .put((byte) slotBits)
+                    .put((byte) 0)
+                    .putInt(this.memoCount)
+                    .putInt(0);
+            for(int i = 0; i < slotKeys.length; i++) {
+                if(!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while(buffer.hasRemaining()) channel.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putLong(slotKeys[i] == 0 ? 0L : (slotKeys[i] << 16) | (slotEntries[i] & 0xFFFF));
+            }
+            buffer.flip();
+            while(buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//perfect play from the tablebases, the fallback strategy takes over for board sizes without one
+public class TablebaseStrategy implements MoveStrategy {
+    private final Tablebase[] tablebases = new Tablebase[GameBoardSize.values().length];
+    private final MoveStrategy fallback;
+
+    public TablebaseStrategy(MoveStrategy fallback) {
+        this.fallback = fallback;
+    }
+
+    //loads every tablebase file found in the directory
+    public static TablebaseStrategy load(Path directory, MoveStrategy fallback) throws IOException {
+        TablebaseStrategy strategy = new TablebaseStrategy(fallback);
+        for(GameBoardSize size : GameBoardSize.values()) {
+            Path file = Tablebase.fileName(directory, size);
+            if(Files.isRegularFile(file)) strategy.add(Tablebase.open(file));
+        }
+        return strategy;
+    }
+
+    public void add(Tablebase tablebase) {
+        for(GameBoardSize size : GameBoardSize.values()) {
+            if(size.getValue() == tablebase.getCellsInRow()) this.tablebases[size.ordinal()] = tablebase;
+        }
+    }
+
+    public boolean covers(GameBoardSize size) {
+        return this.tablebases[size.ordinal()] != null;
+    }
+
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        for(Tablebase tablebase : this.tablebases) {
+            if(tablebase == null || tablebase.getCellsInRow() != board.getCellsInRow()) continue;
+            int entry = tablebase.lookup(board, symbol);
+            if(entry != Tablebase.NOT_FOUND) return Tablebase.bestMove(entry);
+        }
+        return this.fallback.chooseCell(board, symbol);
+    }
+}
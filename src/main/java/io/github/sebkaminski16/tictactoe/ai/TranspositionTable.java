@@ -0,0 +1,88 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+//fixed size, open hashing into a power-of-two number of slots - nothing is allocated after construction
+//entry layout: bits 0-31 score, 32-41 best move, 42-49 depth, 50-51 bound, 52-62 search generation, 63 always set
+//replacement: an entry from an older search is always overwritten, within one search the deeper entry is kept
+//lock-free and safe to share between search threads: the slot keeps key ^ entry, so an entry torn by
+//two concurrent stores no longer matches its key and reads as a miss
+public class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+    public static final long NO_ENTRY = 0L;
+
+    private static final int GENERATION_MASK = 0x7FF;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+    private volatile int generation = 0;
+
+    public TranspositionTable(int sizeInBits) {
+        if(sizeInBits < 1 || sizeInBits > 28) throw new IncorrectStrategyConfigurationException("Transposition table size has to be from range [1-28] bits!");
+        this.keys = new long[1 << sizeInBits];
+        this.entries = new long[1 << sizeInBits];
+        this.indexMask = (1 << sizeInBits) - 1;
+    }
+
+    public int getCapacity() {
+        return this.keys.length;
+    }
+
+    //entries of previous searches stay usable but lose their place to anything stored from now on
+    public void newSearch() {
+        this.generation = (this.generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(this.keys, 0L);
+        Arrays.fill(this.entries, NO_ENTRY);
+    }
+
+    public long probe(long key) {
+        int index = (int) (key ^ (key >>> 32)) & this.indexMask;
+        long entry = (long) SLOTS.getOpaque(this.entries, index);
+        return ((long) SLOTS.getOpaque(this.keys, index) ^ entry) == key ? entry : NO_ENTRY;
+    }
+
+    public void store(long key, int score, int bestMove, int depth, int bound) {
+        int index = (int) (key ^ (key >>> 32)) & this.indexMask;
+        int generation = this.generation;
+        long stored = (long) SLOTS.getOpaque(this.entries, index);
+        boolean sameKey = ((long) SLOTS.getOpaque(this.keys, index) ^ stored) == key;
+        if(stored != NO_ENTRY && !sameKey && generation(stored) == generation && depth(stored) > depth) return;
+        long entry = (score & 0xFFFFFFFFL)
+                | ((long) (bestMove & 0x3FF) << 32)
+                | ((long) (depth & 0xFF) << 42)
+                | ((long) bound << 50)
+                | ((long) generation << 52)
+                | Long.MIN_VALUE;
+        SLOTS.setOpaque(this.keys, index, key ^ entry);
+        SLOTS.setOpaque(this.entries, index, entry);
+    }
+
+    public static int score(long entry) {
+        return (int) entry;
+    }
+
+    public static int bestMove(long entry) {
+        return (int) (entry >>> 32) & 0x3FF;
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> 42) & 0xFF;
+    }
+
+    public static int bound(long entry) {
+        return (int) (entry >>> 50) & 0x3;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> 52) & GENERATION_MASK;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//terminal checks of many independent boards in one call, e.g. for self-play and training data
+//a board is packed into two longs - the cells of X and of O as returned by BitBoard.getCells - and gets one result
+//byte: UNSETTLED, TIE, X_WINS or O_WINS, read back with status() and winner()
+//with the jdk.incubator.vector module present the boards are checked a whole vector at a time - 8 boards per
+//instruction with 512 bit registers - otherwise one by one
+public final class BatchWinChecker {
+    public static final byte UNSETTLED = 0;
+    public static final byte TIE = 1;
+    public static final byte X_WINS = 2;
+    public static final byte O_WINS = 3;
+
+    private static final long[][] WIN_LINES = new long[GameBoardSize.values().length][];
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("tictactoe.scalarBatch") && VectorWinChecker.lanes() > 1;
+
+    static {
+        for(GameBoardSize size : GameBoardSize.values()) {
+            WIN_LINES[size.ordinal()] = BitBoard.getWinLines(size);
+        }
+    }
+
+    private BatchWinChecker() {
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    //results[i] for the board of xCells[i] and oCells[i], for the first count boards
+    //a board where both players have a line - not reachable in a game - counts as won by X
+    public static void evaluate(GameBoardSize size, long[] xCells, long[] oCells, byte[] results, int count) {
+        if(count < 0 || count > xCells.length || count > oCells.length || count > results.length)
+            throw new IncorrectBatchSizeException("Incorrect number of boards! It should be from range [0-"
+                    + Math.min(xCells.length, Math.min(oCells.length, results.length)) + "]");
+        long[] lines = WIN_LINES[size.ordinal()];
+        long fullMask = fullMask(size);
+        if(VECTORIZED) VectorWinChecker.evaluate(lines, fullMask, xCells, oCells, results, count);
+        else evaluateScalar(lines, fullMask, xCells, oCells, results, 0, count);
+    }
+
+    public static GameStatus status(byte result) {
+        return switch(result) {
+            case X_WINS, O_WINS -> GameStatus.HAS_WINNER;
+            case TIE -> GameStatus.TIE;
+            default -> GameStatus.UNSETTLED;
+        };
+    }
+
+    //null unless somebody won
+    public static Symbol winner(byte result) {
+        return switch(result) {
+            case X_WINS -> Symbol.X;
+            case O_WINS -> Symbol.O;
+            default -> null;
+        };
+    }
+
+    static long fullMask(GameBoardSize size) {
+        int cellCount = size.getValue() * size.getValue();
+        return cellCount == Long.SIZE ? -1L : (1L << cellCount) - 1;
+    }
+
+    //boards from .. to, also the tail the vectors do not cover
+    static void evaluateScalar(long[] lines, long fullMask, long[] xCells, long[] oCells, byte[] results, int from, int to) {
+        for(int board = from; board < to; board++) {
+            long x = xCells[board];
+            long o = oCells[board];
+            boolean xWins = false;
+            boolean oWins = false;
+            for(long line : lines) {
+                xWins |= (x & line) == line;
+                oWins |= (o & line) == line;
+            }
+            results[board] = xWins ? X_WINS : oWins ? O_WINS : (x | o) == fullMask ? TIE : UNSETTLED;
+        }
+    }
+}
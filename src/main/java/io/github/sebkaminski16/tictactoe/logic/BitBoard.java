@@ -0,0 +1,309 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+//one bit per cell for each player, cell n is bit n % 64 of word n / 64 - every board up to 8x8 fits in a single long
+//next to the bits each player keeps a running count per winning line, so a move only touches the lines through
+//its cell - at most 4 with full line rules, at most 4 * winLength with k in a row - whatever the size of the board
+//the empty cells are also kept in a dense array - a move swaps its cell out with the last empty one and taking
+//moves back in reverse order restores the exact order - so an empty cell is picked at random, or all of them are
+//visited, without looking at the occupied ones
+//a move also updates the zobrist hash of the board in each of its 8 rotations and reflections, transformation 0 being
+//the board itself - the smallest of them is the same for all equivalent positions
+public class BitBoard {
+    private static final long[][] WIN_LINES = new long[GameBoardSize.values().length][];
+
+    static {
+        for(GameBoardSize size : GameBoardSize.values()) {
+            BoardGeometry geometry = BoardGeometry.of(size.getValue(), size.getValue());
+            long[] lines = new long[geometry.lineCells.length];
+            for(int line = 0; line < lines.length; line++) {
+                for(int cell : geometry.lineCells[line]) {
+                    lines[line] |= 1L << cell;
+                }
+            }
+            WIN_LINES[size.ordinal()] = lines;
+        }
+    }
+
+    private final BoardGeometry geometry;
+    private final List<Symbol> view = new BoardView();
+    private final long[] xWords;
+    private final long[] oWords;
+    private final int[] xLineCounts;
+    private final int[] oLineCounts;
+    private final int[] freeCells;
+    //position of every empty cell in freeCells, occupied cells keep the position they had when they were taken
+    private final int[] freeCellIndexes;
+    private final long[] hashes = new long[BoardSymmetries.TRANSFORMATIONS];
+    private int moveCount = 0;
+
+    public BitBoard(GameBoardSize size) {
+        this(BoardGeometry.of(size.getValue(), size.getValue()));
+    }
+
+    public BitBoard(int cellsInRow, int winLength) {
+        this(BoardGeometry.of(cellsInRow, winLength));
+    }
+
+    BitBoard(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.xWords = new long[geometry.wordCount];
+        this.oWords = new long[geometry.wordCount];
+        this.xLineCounts = new int[geometry.lineCells.length];
+        this.oLineCounts = new int[geometry.lineCells.length];
+        this.freeCells = new int[geometry.cellCount];
+        this.freeCellIndexes = new int[geometry.cellCount];
+        this.resetFreeCells();
+    }
+
+    private BitBoard(BitBoard other) {
+        this.geometry = other.geometry;
+        this.xWords = other.xWords.clone();
+        this.oWords = other.oWords.clone();
+        this.xLineCounts = other.xLineCounts.clone();
+        this.oLineCounts = other.oLineCounts.clone();
+        this.freeCells = other.freeCells.clone();
+        this.freeCellIndexes = other.freeCellIndexes.clone();
+        System.arraycopy(other.hashes, 0, this.hashes, 0, BoardSymmetries.TRANSFORMATIONS);
+        this.moveCount = other.moveCount;
+    }
+
+    public BitBoard copy() {
+        return new BitBoard(this);
+    }
+
+    //makes this board the same as the other one without allocating, e.g. for a search reusing its board between moves
+    public void copyFrom(BitBoard other) {
+        if(other.geometry != this.geometry) throw new IncorrectBoardSizeException("Cannot copy a board of other size or rules!");
+        System.arraycopy(other.xWords, 0, this.xWords, 0, this.xWords.length);
+        System.arraycopy(other.oWords, 0, this.oWords, 0, this.oWords.length);
+        System.arraycopy(other.xLineCounts, 0, this.xLineCounts, 0, this.xLineCounts.length);
+        System.arraycopy(other.oLineCounts, 0, this.oLineCounts, 0, this.oLineCounts.length);
+        System.arraycopy(other.freeCells, 0, this.freeCells, 0, this.freeCells.length);
+        System.arraycopy(other.freeCellIndexes, 0, this.freeCellIndexes, 0, this.freeCellIndexes.length);
+        System.arraycopy(other.hashes, 0, this.hashes, 0, BoardSymmetries.TRANSFORMATIONS);
+        this.moveCount = other.moveCount;
+    }
+
+    //the same size and rules - copyFrom works between such boards
+    public boolean hasSameGeometry(BitBoard other) {
+        return other.geometry == this.geometry;
+    }
+
+    //full line rules only: rows, columns and diagonals as bit masks, numbered like the line counters
+    public static long[] getWinLines(GameBoardSize size) {
+        return WIN_LINES[size.ordinal()].clone();
+    }
+
+    public int getCellsInRow() {
+        return this.geometry.cellsInRow;
+    }
+
+    public int getWinLength() {
+        return this.geometry.winLength;
+    }
+
+    public int getCellCount() {
+        return this.geometry.cellCount;
+    }
+
+    public int getMoveCount() {
+        return this.moveCount;
+    }
+
+    public int getNumberOfLines() {
+        return this.xLineCounts.length;
+    }
+
+    public int getFreeCellCount() {
+        return this.geometry.cellCount - this.moveCount;
+    }
+
+    //the empty cells in no particular order, index from 0 to getFreeCellCount() - 1; the order changes with every move
+    public int getFreeCell(int index) {
+        return this.freeCells[index];
+    }
+
+    //a uniformly random empty cell, -1 when the board is full
+    public int getRandomFreeCell(RandomGenerator random) {
+        int free = this.getFreeCellCount();
+        return free == 0 ? -1 : this.freeCells[random.nextInt(free)];
+    }
+
+    //zobrist hash of the cells, equal to ZobristKeys.of(getCellCount()) of every symbol xor-ed together
+    public long getHash() {
+        return this.hashes[0];
+    }
+
+    //the same for all 8 rotations and reflections of the position
+    public long getCanonicalHash() {
+        long hash = this.hashes[0];
+        for(int t = 1; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+            hash = Math.min(hash, this.hashes[t]);
+        }
+        return hash;
+    }
+
+    //the transformation that turns this position into the one getCanonicalHash() belongs to, the lowest one on ties -
+    //moves are mapped with BoardSymmetries.transformCell and back with inverseTransformCell
+    public int getCanonicalTransformation() {
+        int best = 0;
+        for(int t = 1; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+            if(this.hashes[t] < this.hashes[best]) best = t;
+        }
+        return best;
+    }
+
+    public int getSymbolsInLine(Symbol symbol, int line) {
+        return symbol == Symbol.X ? this.xLineCounts[line] : this.oLineCounts[line];
+    }
+
+    public int[] getLinesThroughCell(int cell) {
+        return this.geometry.cellLines[cell].clone();
+    }
+
+    //the first 64 cells as a bit mask - the whole board for boards up to 8x8
+    public long getCells(Symbol symbol) {
+        return symbol == Symbol.X ? this.xWords[0] : this.oWords[0];
+    }
+
+    public boolean isEmpty(int cell) {
+        int word = cell >>> 6;
+        return ((this.xWords[word] | this.oWords[word]) & (1L << cell)) == 0;
+    }
+
+    public Symbol getSymbol(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        if((this.xWords[word] & bit) != 0) return Symbol.X;
+        if((this.oWords[word] & bit) != 0) return Symbol.O;
+        return null;
+    }
+
+    //returns true if the move completed a line for the given symbol
+    public boolean place(int cell, Symbol symbol) {
+        int[] lineCounts;
+        long[] symmetryKeys;
+        if(symbol == Symbol.X) {
+            this.xWords[cell >>> 6] |= 1L << cell;
+            lineCounts = this.xLineCounts;
+            symmetryKeys = this.geometry.xSymmetryKeys;
+        } else {
+            this.oWords[cell >>> 6] |= 1L << cell;
+            lineCounts = this.oLineCounts;
+            symmetryKeys = this.geometry.oSymmetryKeys;
+        }
+        this.updateHashes(symmetryKeys, cell);
+        int last = this.freeCells[this.geometry.cellCount - this.moveCount - 1];
+        int index = this.freeCellIndexes[cell];
+        this.freeCells[index] = last;
+        this.freeCellIndexes[last] = index;
+        this.moveCount++;
+
+        int winLength = this.geometry.winLength;
+        boolean completed = false;
+        for(int line : this.geometry.cellLines[cell]) {
+            if(++lineCounts[line] == winLength) completed = true;
+        }
+        return completed;
+    }
+
+    //undoes place(cell, symbol) - used by the search engines to walk the game tree in place
+    public void remove(int cell, Symbol symbol) {
+        int[] lineCounts;
+        long[] symmetryKeys;
+        if(symbol == Symbol.X) {
+            this.xWords[cell >>> 6] &= ~(1L << cell);
+            lineCounts = this.xLineCounts;
+            symmetryKeys = this.geometry.xSymmetryKeys;
+        } else {
+            this.oWords[cell >>> 6] &= ~(1L << cell);
+            lineCounts = this.oLineCounts;
+            symmetryKeys = this.geometry.oSymmetryKeys;
+        }
+        this.updateHashes(symmetryKeys, cell);
+        this.moveCount--;
+        int last = this.geometry.cellCount - this.moveCount - 1;
+        int index = this.freeCellIndexes[cell];
+        if(index < last) {
+            int moved = this.freeCells[index];
+            this.freeCells[last] = moved;
+            this.freeCellIndexes[moved] = last;
+        } else {
+            index = last;
+        }
+        this.freeCells[index] = cell;
+        this.freeCellIndexes[cell] = index;
+
+        for(int line : this.geometry.cellLines[cell]) {
+            lineCounts[line]--;
+        }
+    }
+
+    //xor is its own inverse, so placing and removing a symbol is the same update
+    private void updateHashes(long[] symmetryKeys, int cell) {
+        int base = cell * BoardSymmetries.TRANSFORMATIONS;
+        for(int t = 0; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+            this.hashes[t] ^= symmetryKeys[base + t];
+        }
+    }
+
+    //full scan of the bits, independent of the line counters
+    public boolean hasLine(Symbol symbol) {
+        long[] words = symbol == Symbol.X ? this.xWords : this.oWords;
+        for(int[] cells : this.geometry.lineCells) {
+            boolean complete = true;
+            for(int cell : cells) {
+                if((words[cell >>> 6] & (1L << cell)) == 0) {
+                    complete = false;
+                    break;
+                }
+            }
+            if(complete) return true;
+        }
+        return false;
+    }
+
+    public boolean isFull() {
+        return this.moveCount == this.geometry.cellCount;
+    }
+
+    public void clear() {
+        Arrays.fill(this.xWords, 0L);
+        Arrays.fill(this.oWords, 0L);
+        Arrays.fill(this.xLineCounts, 0);
+        Arrays.fill(this.oLineCounts, 0);
+        Arrays.fill(this.hashes, 0L);
+        this.moveCount = 0;
+        this.resetFreeCells();
+    }
+
+    private void resetFreeCells() {
+        for(int cell = 0; cell < this.geometry.cellCount; cell++) {
+            this.freeCells[cell] = cell;
+            this.freeCellIndexes[cell] = cell;
+        }
+    }
+
+    //read-only, no copying - reflects later moves
+    public List<Symbol> asList() {
+        return this.view;
+    }
+
+    private class BoardView extends AbstractList<Symbol> {
+        @Override
+        public Symbol get(int index) {
+            if(index < 0 || index >= geometry.cellCount) throw new IndexOutOfBoundsException(index);
+            return getSymbol(index);
+        }
+
+        @Override
+        public int size() {
+            return geometry.cellCount;
+        }
+    }
+}
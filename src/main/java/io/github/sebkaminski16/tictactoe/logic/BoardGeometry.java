@@ -0,0 +1,88 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+//every winning line of one set of rules - a line is winLength consecutive cells in a row, column or diagonal
+//numbering: horizontal lines first, then vertical, then left to right diagonals, then right to left diagonals,
+//each in cell order of its first cell - with full line rules that is [0, n) rows, [n, 2n) columns, 2n and 2n + 1 diagonals
+//also the zobrist keys of every cell in all 8 orientations of the board, so a board can keep the hashes of its
+//rotations and reflections next to its own hash
+//immutable and shared by all boards with the same rules
+final class BoardGeometry {
+    static final int MIN_CELLS_IN_ROW = 3;
+    static final int MAX_CELLS_IN_ROW = 32;
+    static final int MIN_WIN_LENGTH = 3;
+
+    private static final ConcurrentHashMap<Integer, BoardGeometry> GEOMETRIES = new ConcurrentHashMap<>();
+
+    final int cellsInRow;
+    final int winLength;
+    final int cellCount;
+    final int wordCount;
+    final int[][] lineCells;
+    final int[][] cellLines;
+    //key of the cell's image under transformation t at cell * 8 + t - the 8 keys of a move lie next to each other
+    final long[] xSymmetryKeys;
+    final long[] oSymmetryKeys;
+
+    private BoardGeometry(int cellsInRow, int winLength) {
+        this.cellsInRow = cellsInRow;
+        this.winLength = winLength;
+        this.cellCount = cellsInRow * cellsInRow;
+        this.wordCount = (this.cellCount + Long.SIZE - 1) / Long.SIZE;
+
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        int linesPerDirection = cellsInRow - winLength + 1;
+        this.lineCells = new int[linesPerDirection * cellsInRow * 2 + linesPerDirection * linesPerDirection * 2][];
+        int[] linesThroughCell = new int[this.cellCount];
+        int line = 0;
+        for(int[] direction : directions) {
+            for(int cell = 0; cell < this.cellCount; cell++) {
+                int row = cell / cellsInRow;
+                int column = cell % cellsInRow;
+                int lastRow = row + direction[0] * (winLength - 1);
+                int lastColumn = column + direction[1] * (winLength - 1);
+                if(lastRow >= cellsInRow || lastColumn < 0 || lastColumn >= cellsInRow) continue;
+                int[] cells = new int[winLength];
+                for(int i = 0; i < winLength; i++) {
+                    cells[i] = (row + direction[0] * i) * cellsInRow + column + direction[1] * i;
+                    linesThroughCell[cells[i]]++;
+                }
+                this.lineCells[line++] = cells;
+            }
+        }
+
+        this.cellLines = new int[this.cellCount][];
+        for(int cell = 0; cell < this.cellCount; cell++) {
+            this.cellLines[cell] = new int[linesThroughCell[cell]];
+            linesThroughCell[cell] = 0;
+        }
+        for(line = 0; line < this.lineCells.length; line++) {
+            for(int cell : this.lineCells[line]) {
+                this.cellLines[cell][linesThroughCell[cell]++] = line;
+            }
+        }
+
+        BoardSymmetries symmetries = new BoardSymmetries(cellsInRow);
+        ZobristKeys keys = ZobristKeys.of(this.cellCount);
+        this.xSymmetryKeys = new long[this.cellCount * BoardSymmetries.TRANSFORMATIONS];
+        this.oSymmetryKeys = new long[this.cellCount * BoardSymmetries.TRANSFORMATIONS];
+        for(int cell = 0; cell < this.cellCount; cell++) {
+            for(int t = 0; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+                int image = symmetries.transformCell(cell, t);
+                this.xSymmetryKeys[cell * BoardSymmetries.TRANSFORMATIONS + t] = keys.key(image, Symbol.X);
+                this.oSymmetryKeys[cell * BoardSymmetries.TRANSFORMATIONS + t] = keys.key(image, Symbol.O);
+            }
+        }
+    }
+
+    static BoardGeometry of(int cellsInRow, int winLength) {
+        if(cellsInRow < MIN_CELLS_IN_ROW || cellsInRow > MAX_CELLS_IN_ROW)
+            throw new IncorrectBoardSizeException("Incorrect board size! Cells in a row should be from range ["
+                    + MIN_CELLS_IN_ROW + "-" + MAX_CELLS_IN_ROW + "]");
+        if(winLength < MIN_WIN_LENGTH || winLength > cellsInRow)
+            throw new IncorrectWinLengthException("Incorrect number of symbols in a row needed to win! It should be from range ["
+                    + MIN_WIN_LENGTH + "-" + cellsInRow + "]");
+        return GEOMETRIES.computeIfAbsent(cellsInRow * (MAX_CELLS_IN_ROW + 1) + winLength, key -> new BoardGeometry(cellsInRow, winLength));
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//the 8 rotations and reflections of a square board as cell permutations
+//transformation t: bit 2 transposes, bit 0 mirrors the rows, bit 1 mirrors the columns - 0 is the identity
+//the cell permutations work on every board size, the bit mask methods need both players' cells in one long - up to 5x5
+public class BoardSymmetries {
+    public static final int TRANSFORMATIONS = 8;
+
+    private final int cellCount;
+    private final int[][] permutations;
+    private final int[][] inversePermutations;
+
+    public BoardSymmetries(int cellsInRow) {
+        this.cellCount = cellsInRow * cellsInRow;
+        this.permutations = new int[TRANSFORMATIONS][this.cellCount];
+        this.inversePermutations = new int[TRANSFORMATIONS][this.cellCount];
+        for(int t = 0; t < TRANSFORMATIONS; t++) {
+            for(int cell = 0; cell < this.cellCount; cell++) {
+                int row = cell / cellsInRow;
+                int column = cell % cellsInRow;
+                if((t & 4) != 0) {
+                    int swap = row;
+                    row = column;
+                    column = swap;
+                }
+                if((t & 1) != 0) row = cellsInRow - 1 - row;
+                if((t & 2) != 0) column = cellsInRow - 1 - column;
+                int image = row * cellsInRow + column;
+                this.permutations[t][cell] = image;
+                this.inversePermutations[t][image] = cell;
+            }
+        }
+    }
+
+    public int transformCell(int cell, int transformation) {
+        return this.permutations[transformation][cell];
+    }
+
+    public int inverseTransformCell(int cell, int transformation) {
+        return this.inversePermutations[transformation][cell];
+    }
+
+    public long transform(long cells, int transformation) {
+        int[] permutation = this.permutations[transformation];
+        long result = 0L;
+        while(cells != 0) {
+            result |= 1L << permutation[Long.numberOfTrailingZeros(cells)];
+            cells &= cells - 1;
+        }
+        return result;
+    }
+
+    //both players' cells in one key - the mover's in the low half, the opponent's above them
+    public long key(long moverCells, long opponentCells) {
+        return moverCells | (opponentCells << this.cellCount);
+    }
+
+    //the transformation giving the smallest key, which is the same for all 8 equivalent positions
+    public int canonicalTransformation(long moverCells, long opponentCells) {
+        int best = 0;
+        long bestKey = this.key(moverCells, opponentCells);
+        for(int t = 1; t < TRANSFORMATIONS; t++) {
+            long key = this.key(this.transform(moverCells, t), this.transform(opponentCells, t));
+            if(Long.compareUnsigned(key, bestKey) < 0) {
+                bestKey = key;
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    public long canonicalKey(long moverCells, long opponentCells) {
+        int t = this.canonicalTransformation(moverCells, opponentCells);
+        return this.key(this.transform(moverCells, t), this.transform(opponentCells, t));
+    }
+}
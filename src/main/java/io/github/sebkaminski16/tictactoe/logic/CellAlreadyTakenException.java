@@ -2,6 +2,6 @@ package io.github.sebkaminski16.tictactoe.logic;
 
 public class CellAlreadyTakenException extends RuntimeException {
     public CellAlreadyTakenException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
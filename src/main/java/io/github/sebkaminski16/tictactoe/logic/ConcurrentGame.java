@@ -0,0 +1,137 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+//a game that can be shared by any number of threads, e.g. the connections of both players in a server
+//the computer strategy is only run by one thread at a time, but one strategy set on several games has to be thread-safe
+//the whole state is one immutable GameSnapshot swapped by compare-and-set, so every accepted move is applied to
+//exactly the state it was checked against and reads never block - a move that loses the race is checked again
+//against the new state, and is rejected if the turn has passed to the other player in the meantime
+public class ConcurrentGame {
+    private final List<Player> players;
+    private final GameMode gameMode;
+    private final BoardGeometry geometry;
+    private final AtomicReference<GameSnapshot> state;
+    private volatile MoveStrategy computerStrategy = new RandomMoveStrategy();
+
+    public ConcurrentGame(GameBoardSize size, String... playerNames) {
+        this(size.getValue(), size.getValue(), playerNames);
+    }
+
+    public ConcurrentGame(int cellsInRow, int winLength, String... playerNames) {
+        this.geometry = BoardGeometry.of(cellsInRow, winLength);
+        String[] names = Game.resolvePlayerNames(playerNames);
+        Symbol player1symbol = Game.generatePlayer1SymbolRandomly(ThreadLocalRandom.current());
+        Symbol player2symbol = player1symbol == Symbol.O ? Symbol.X : Symbol.O;
+        this.players = List.of(new Player(names[0], player1symbol), new Player(names[1], player2symbol));
+        this.gameMode = playerNames.length > 1 ? GameMode.HUMAN_VS_HUMAN : GameMode.COMPUTER_VS_HUMAN;
+        this.state = new AtomicReference<>(GameSnapshot.initial(this.geometry, this.players.getFirst()));
+    }
+
+    public List<Player> getPlayers() {
+        return this.players;
+    }
+
+    public GameMode getGameMode() {
+        return this.gameMode;
+    }
+
+    public int getCellsInRow() {
+        return this.geometry.cellsInRow;
+    }
+
+    public int getWinLength() {
+        return this.geometry.winLength;
+    }
+
+    public GameSnapshot getSnapshot() {
+        return this.state.get();
+    }
+
+    public MoveStrategy getComputerStrategy() {
+        return this.computerStrategy;
+    }
+
+    public void setComputerStrategy(MoveStrategy computerStrategy) {
+        if(computerStrategy == null) throw new MoveStrategyIsNullException("Computer strategy cannot be null!");
+        this.computerStrategy = computerStrategy;
+    }
+
+    public void reset() {
+        this.state.set(GameSnapshot.initial(this.geometry, this.players.getFirst()));
+    }
+
+    //GAMEPLAY
+
+    //the move of whoever is to play at the moment of the call
+    public GameSnapshot insertSymbolIntoCellN(int cellNumber) {
+        Player player = this.state.get().getCurrentlyPlayingPlayer();
+        if(player == null) throw new GameAlreadyFinishedException("The game has already finished! Cannot insert any more cells!");
+        return this.insertSymbolIntoCellN(player.symbol(), cellNumber);
+    }
+
+    //the move of the player with the given symbol, rejected if it is not that player's turn
+    //against the computer only the thread whose move was published asks the strategy for the answer, so a strategy
+    //with search state is never run by two threads at once and no search is thrown away - until the answer is
+    //published it is the computer's turn, which nobody else can play
+    public GameSnapshot insertSymbolIntoCellN(Symbol symbol, int cellNumber) {
+        try {
+            if(this.gameMode == GameMode.COMPUTER_VS_HUMAN && symbol == this.players.get(1).symbol())
+                throw new NotPlayersTurnException("The symbol " + symbol + " is played by the computer!");
+            this.checkCellNumber(cellNumber);
+            GameSnapshot after;
+            long start;
+            while(true) {
+                GameSnapshot before = this.state.get();
+                start = EngineMetrics.enabled() ? System.nanoTime() : 0L;
+                after = this.withMove(before, symbol, cellNumber);
+                if(this.state.compareAndSet(before, after)) break;
+            }
+            if(start != 0L) EngineMetrics.recordMove(System.nanoTime() - start, after.getGameStatus() != GameStatus.UNSETTLED);
+            if(after.getGameStatus() != GameStatus.UNSETTLED || this.gameMode != GameMode.COMPUTER_VS_HUMAN) return after;
+
+            Symbol computerSymbol = after.getCurrentlyPlayingPlayer().symbol();
+            int computerCell = this.chooseComputerCell(after, computerSymbol);
+            this.checkCellNumber(computerCell);
+            long computerStart = start != 0L ? System.nanoTime() : 0L;
+            GameSnapshot answered = this.withMove(after, computerSymbol, computerCell);
+            //only a reset can get in between - the game was started again and the answer is dropped
+            if(!this.state.compareAndSet(after, answered)) return after;
+            if(computerStart != 0L) EngineMetrics.recordMove(System.nanoTime() - computerStart, answered.getGameStatus() != GameStatus.UNSETTLED);
+            return answered;
+        } catch(RuntimeException e) {
+            EngineMetrics.recordException(e);
+            throw e;
+        }
+    }
+
+    private int chooseComputerCell(GameSnapshot snapshot, Symbol computerSymbol) {
+        if(!EngineMetrics.enabled()) return this.computerStrategy.chooseCell(snapshot.toBitBoard(), computerSymbol);
+        long start = System.nanoTime();
+        int cell = this.computerStrategy.chooseCell(snapshot.toBitBoard(), computerSymbol);
+        EngineMetrics.recordComputerMove(System.nanoTime() - start);
+        return cell;
+    }
+
+    private void checkCellNumber(int cellNumber) {
+        int cellCount = this.geometry.cellCount;
+        if(cellNumber >= cellCount || cellNumber < 0)
+            throw new CellNumberOutOfBoundsException("Incorrect cell number! Cell number should be from range [0-"
+                    + (cellCount - 1) + "]");
+    }
+
+    //the state after the move, nothing is published
+    private GameSnapshot withMove(GameSnapshot before, Symbol symbol, int cellNumber) {
+        if(before.getGameStatus() != GameStatus.UNSETTLED)
+            throw new GameAlreadyFinishedException("The game has already finished! Cannot insert any more cells!");
+        Player movingPlayer = before.getCurrentlyPlayingPlayer();
+        if(movingPlayer.symbol() != symbol)
+            throw new NotPlayersTurnException("It is not the turn of " + symbol + "! Wait for the other player!");
+        if(!before.isEmpty(cellNumber))
+            throw new CellAlreadyTakenException("The cell already contains a symbol! Choose other cell!");
+        Player nextPlayer = this.players.get(0) == movingPlayer ? this.players.get(1) : this.players.get(0);
+        return before.withMove(cellNumber, nextPlayer);
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//counters and histograms of the whole engine - games, moves, computer players and searches report here
+//disabled by default (-Dtictactoe.metrics=true or enable() turns it on): every hook first reads one volatile flag and
+//does nothing else, enabled it adds to striped LongAdders and lock-free histograms, so no thread waits for another
+//and nothing is allocated per move
+//visible over JMX once registerMBean() was called, or as text from getSnapshot()
+public final class EngineMetrics implements EngineMetricsMXBean {
+    public static final String OBJECT_NAME = "io.github.sebkaminski16.tictactoe:type=EngineMetrics";
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+
+    private static volatile boolean enabled = Boolean.getBoolean("tictactoe.metrics");
+
+    private final LongAdder movesApplied = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder computerMoves = new LongAdder();
+    private final LongAdder nodesSearched = new LongAdder();
+    private final LongAdder playouts = new LongAdder();
+    private final LongAdder cacheProbes = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LatencyHistogram winCheckNanos = new LatencyHistogram();
+    private final LatencyHistogram thinkTimeNanos = new LatencyHistogram();
+    private final ConcurrentHashMap<Class<?>, LongAdder> exceptions = new ConcurrentHashMap<>();
+    //by MoveResult code, moves turned down by Game.tryMove
+    private final LongAdder[] rejectedMoves = new LongAdder[MoveResult.COUNT];
+
+    private EngineMetrics() {
+        for(int result = 0; result < MoveResult.COUNT; result++) {
+            this.rejectedMoves[result] = new LongAdder();
+        }
+    }
+
+    public static EngineMetrics get() {
+        return INSTANCE;
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    //registers the metrics with the platform MBean server, calling it again does nothing
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch(InstanceAlreadyExistsException e) {
+            //registered before
+        } catch(JMException e) {
+            throw new MetricsRegistrationException("Cannot register the engine metrics: " + e.getMessage());
+        }
+    }
+
+    //HOOKS - callers check enabled() first, so that nothing is measured while the metrics are off
+
+    //a symbol placed and the board checked for a completed line
+    public static void recordMove(long winCheckNanos, boolean finishedGame) {
+        INSTANCE.movesApplied.increment();
+        INSTANCE.winCheckNanos.record(winCheckNanos);
+        if(finishedGame) INSTANCE.gamesFinished.increment();
+    }
+
+    public static void recordComputerMove(long thinkTimeNanos) {
+        INSTANCE.computerMoves.increment();
+        INSTANCE.thinkTimeNanos.record(thinkTimeNanos);
+    }
+
+    //one search of an engine, reported once it is over and not node by node
+    public static void recordSearch(long nodes, long cacheProbes, long cacheHits) {
+        INSTANCE.nodesSearched.add(nodes);
+        INSTANCE.cacheProbes.add(cacheProbes);
+        INSTANCE.cacheHits.add(cacheHits);
+    }
+
+    public static void recordPlayouts(long playouts) {
+        INSTANCE.playouts.add(playouts);
+    }
+
+    public static void recordRejectedMove(int result) {
+        INSTANCE.rejectedMoves[result].increment();
+    }
+
+    //a rejected move or call, counted by the type of the exception - checks enabled() itself, the exception is built anyway
+    public static void recordException(RuntimeException exception) {
+        if(!enabled) return;
+        INSTANCE.exceptions.computeIfAbsent(exception.getClass(), type -> new LongAdder()).increment();
+    }
+
+    //READING
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        EngineMetrics.enabled = enabled;
+    }
+
+    @Override
+    public long getMovesApplied() {
+        return this.movesApplied.sum();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return this.gamesFinished.sum();
+    }
+
+    @Override
+    public long getComputerMoves() {
+        return this.computerMoves.sum();
+    }
+
+    @Override
+    public long getNodesSearched() {
+        return this.nodesSearched.sum();
+    }
+
+    @Override
+    public long getPlayouts() {
+        return this.playouts.sum();
+    }
+
+    @Override
+    public long getCacheProbes() {
+        return this.cacheProbes.sum();
+    }
+
+    //share of transposition table probes that found an entry, 0 before the first probe
+    @Override
+    public double getCacheHitRate() {
+        long probes = this.cacheProbes.sum();
+        return probes == 0 ? 0.0 : (double) this.cacheHits.sum() / probes;
+    }
+
+    @Override
+    public long getWinCheckP50Nanos() {
+        return this.winCheckNanos.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getWinCheckP99Nanos() {
+        return this.winCheckNanos.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getThinkTimeP50Micros() {
+        return this.thinkTimeNanos.getValueAtPercentile(50) / 1000;
+    }
+
+    @Override
+    public long getThinkTimeP99Micros() {
+        return this.thinkTimeNanos.getValueAtPercentile(99) / 1000;
+    }
+
+    //simple class name -> count, sorted by name
+    @Override
+    public Map<String, Long> getExceptionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.exceptions.forEach((type, count) -> counts.put(type.getSimpleName(), count.sum()));
+        return counts;
+    }
+
+    //MoveResult name -> count, only the results that occurred
+    @Override
+    public Map<String, Long> getRejectedMoves() {
+        Map<String, Long> counts = new TreeMap<>();
+        for(int result = 0; result < MoveResult.COUNT; result++) {
+            long count = this.rejectedMoves[result].sum();
+            if(count > 0) counts.put(MoveResult.name(result), count);
+        }
+        return counts;
+    }
+
+    //one "name value" line per metric
+    @Override
+    public String getSnapshot() {
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append("enabled ").append(enabled).append('\n');
+        snapshot.append("moves.applied ").append(this.getMovesApplied()).append('\n');
+        snapshot.append("games.finished ").append(this.getGamesFinished()).append('\n');
+        snapshot.append("computer.moves ").append(this.getComputerMoves()).append('\n');
+        snapshot.append("computer.thinkTime.p50.micros ").append(this.getThinkTimeP50Micros()).append('\n');
+        snapshot.append("computer.thinkTime.p99.micros ").append(this.getThinkTimeP99Micros()).append('\n');
+        snapshot.append("winCheck.p50.nanos ").append(this.getWinCheckP50Nanos()).append('\n');
+        snapshot.append("winCheck.p99.nanos ").append(this.getWinCheckP99Nanos()).append('\n');
+        snapshot.append("search.nodes ").append(this.getNodesSearched()).append('\n');
+        snapshot.append("search.playouts ").append(this.getPlayouts()).append('\n');
+        snapshot.append("cache.probes ").append(this.getCacheProbes()).append('\n');
+        snapshot.append("cache.hitRate ").append(String.format("%.4f", this.getCacheHitRate())).append('\n');
+        this.getRejectedMoves().forEach((result, count) -> snapshot.append("moves.rejected.").append(result).append(' ').append(count).append('\n'));
+        this.getExceptionCounts().forEach((type, count) -> snapshot.append("exceptions.").append(type).append(' ').append(count).append('\n'));
+        return snapshot.toString();
+    }
+
+    //counters only - whether the metrics are enabled does not change
+    @Override
+    public void reset() {
+        this.movesApplied.reset();
+        this.gamesFinished.reset();
+        this.computerMoves.reset();
+        this.nodesSearched.reset();
+        this.playouts.reset();
+        this.cacheProbes.reset();
+        this.cacheHits.reset();
+        this.winCheckNanos.reset();
+        this.thinkTimeNanos.reset();
+        this.exceptions.clear();
+        for(LongAdder rejected : this.rejectedMoves) {
+            rejected.reset();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.Map;
+
+//what EngineMetrics shows over JMX, under EngineMetrics.OBJECT_NAME
+public interface EngineMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getMovesApplied();
+
+    long getGamesFinished();
+
+    long getComputerMoves();
+
+    long getNodesSearched();
+
+    long getPlayouts();
+
+    long getCacheProbes();
+
+    double getCacheHitRate();
+
+    long getWinCheckP50Nanos();
+
+    long getWinCheckP99Nanos();
+
+    long getThinkTimeP50Micros();
+
+    long getThinkTimeP99Micros();
+
+    Map<String, Long> getRejectedMoves();
+
+    Map<String, Long> getExceptionCounts();
+
+    String getSnapshot();
+
+    void reset();
+}
@@ -3,24 +3,61 @@ package io.github.sebkaminski16.tictactoe.logic;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Game {
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+
     private final List<Player> players = new ArrayList<>(2);
-    private List<Symbol> gameBoard = null;
+    private BitBoard gameBoard = null;
+    //cells in the order they were played, the first gameBoard.getMoveCount() are valid
+    private int[] moveHistory = new int[0];
     private GameMode gameMode = null;
     private boolean configured = false;
     private int cellsInRow = 0;
     private Player currentlyPlayingPlayer = null;
     private GameStatus gameStatus = GameStatus.UNSETTLED;
     private Player winner = null;
+    //the only random source of the game - player symbols and the default computer player - so one seed repeats a whole game
+    private final SplittableRandom random;
+    private final MoveStrategy defaultComputerStrategy;
+    private MoveStrategy computerStrategy;
+    //replaced, never changed in place, so a listener may add or remove listeners while it is told about a move
+    private GameListener[] listeners = NO_LISTENERS;
+
+    public Game() {
+        this(new SplittableRandom());
+    }
+
+    public Game(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    //the game takes over the generator, it must not be used anywhere else at the same time
+    public Game(SplittableRandom random) {
+        if(random == null) throw new RandomGeneratorIsNullException("Random generator cannot be null!");
+        this.random = random;
+        this.defaultComputerStrategy = new RandomMoveStrategy(random);
+        this.computerStrategy = this.defaultComputerStrategy;
+    }
+
+    //a new game with a generator split off this one, e.g. one for every thread of a simulation - the games
+    //are repeatable as long as they are split in the same order
+    public Game split() {
+        return new Game(this.random.split());
+    }
+
+    public SplittableRandom getRandom() {
+        return this.random;
+    }
 
     public List<Player> getPlayers() {
         return this.players;
     }
 
     public List<Symbol> getGameBoard() {
-        return this.gameBoard;
+        return this.gameBoard == null ? null : this.gameBoard.asList();
     }
 
     public boolean isConfigured() {
@@ -47,10 +84,101 @@ public class Game {
         return cellsInRow;
     }
 
+    public int getWinLength() {
+        return this.gameBoard == null ? 0 : this.gameBoard.getWinLength();
+    }
+
+    public int getMoveCount() {
+        return this.gameBoard == null ? 0 : this.gameBoard.getMoveCount();
+    }
+
+    //zobrist hash of the symbols on the board, kept up to date with every move
+    public long getPositionHash() {
+        return this.gameBoard == null ? 0L : this.gameBoard.getHash();
+    }
+
+    //the same for every rotation and reflection of the board - for caches and analytics of equivalent positions
+    public long getCanonicalPositionHash() {
+        return this.gameBoard == null ? 0L : this.gameBoard.getCanonicalHash();
+    }
+
+    //the cell of the n-th move of the current game, counting from 0
+    public int getMove(int index) {
+        if(index < 0 || index >= this.getMoveCount())
+            throw new MoveIndexOutOfBoundsException("Incorrect move index! It should be from range [0-" + (this.getMoveCount() - 1) + "]");
+        return this.moveHistory[index];
+    }
+
+    public MoveStrategy getComputerStrategy() {
+        return computerStrategy;
+    }
+
+    public void setComputerStrategy(MoveStrategy computerStrategy) {
+        if(computerStrategy == null) throw new MoveStrategyIsNullException("Computer strategy cannot be null!");
+        this.computerStrategy = computerStrategy;
+    }
+
+    //LISTENERS
+
+    public void addListener(GameListener listener) {
+        if(listener == null) throw new GameListenerIsNullException("Game listener cannot be null!");
+        GameListener[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[this.listeners.length] = listener;
+        this.listeners = listeners;
+    }
+
+    public void removeListener(GameListener listener) {
+        for(int i = 0; i < this.listeners.length; i++) {
+            if(this.listeners[i] != listener) continue;
+            GameListener[] listeners = new GameListener[this.listeners.length - 1];
+            System.arraycopy(this.listeners, 0, listeners, 0, i);
+            System.arraycopy(this.listeners, i + 1, listeners, i, listeners.length - i);
+            this.listeners = listeners.length == 0 ? NO_LISTENERS : listeners;
+            return;
+        }
+    }
+
+    //drops everything the last user hooked into the game, so a pooled game does not report to or play for them
+    void clearListenersAndComputerStrategy() {
+        this.listeners = NO_LISTENERS;
+        this.computerStrategy = this.defaultComputerStrategy;
+    }
+
     //CONFIGURATION
 
+    //can be called again on a configured game - board storage and equal players are reused
     public void configure(GameBoardSize size, String... playerNames) {
-        if(playerNames == null || (playerNames.length > 0 && Arrays.stream(playerNames).toList().contains(null))) throw new PlayerNameIsNullException("Player name cannot be null!");
+        this.configure(size.getValue(), size.getValue(), playerNames);
+    }
+
+    //N x N board won by winLength symbols in a row, column or diagonal
+    public void configure(int cellsInRow, int winLength, String... playerNames) {
+        this.configure(cellsInRow, winLength, (Symbol) null, playerNames);
+    }
+
+    //player 1 gets the given symbol instead of a random one (null picks randomly), e.g. to replay a logged game
+    public void configure(int cellsInRow, int winLength, Symbol player1symbol, String... playerNames) {
+        BoardGeometry geometry = BoardGeometry.of(cellsInRow, winLength);
+        String[] names = resolvePlayerNames(playerNames);
+        this.configurePlayers(names[0], names[1], player1symbol == null ? generatePlayer1SymbolRandomly(this.random) : player1symbol);
+        this.configureCells(geometry);
+        this.gameMode = playerNames.length > 1 ? GameMode.HUMAN_VS_HUMAN : GameMode.COMPUTER_VS_HUMAN;
+        this.configured = true;
+        this.reset();
+    }
+
+    //whether configuring the game for these players would change anything but the symbols - names as resolved by resolvePlayerNames
+    boolean isConfiguredAs(GameBoardSize size, GameMode gameMode, String player1name, String player2name) {
+        return this.configured && this.cellsInRow == size.getValue() && this.getWinLength() == size.getValue() && this.gameMode == gameMode
+                && this.players.get(0).name().equals(player1name) && this.players.get(1).name().equals(player2name);
+    }
+
+    //validates the names and fills in the computer as player 2 when only one name is given
+    static String[] resolvePlayerNames(String... playerNames) {
+        if(playerNames == null) throw new PlayerNameIsNullException("Player name cannot be null!");
+        for(String playerName : playerNames) {
+            if(playerName == null) throw new PlayerNameIsNullException("Player name cannot be null!");
+        }
         if(playerNames.length == 0) throw new PlayerNameIsNullException("At least 1 player name has to be specified!");
         String player1name = playerNames[0];
         String player2name;
@@ -63,140 +191,137 @@ public class Game {
                 player1name += "[USER-PROVIDED]";
             }
         }
-        this.configurePlayers(player1name, player2name);
-        this.configureCells(size);
-        this.gameMode = playerNames.length > 1 ? GameMode.HUMAN_VS_HUMAN : GameMode.COMPUTER_VS_HUMAN;
-        this.currentlyPlayingPlayer = players.getFirst();
-        this.configured = true;
+        return new String[] {player1name, player2name};
     }
 
-    private List<Symbol> generatePlayerSymbolsRandomly() {
-        Random random = new Random();
-        int number = random.nextInt(2);
-        Symbol player1symbol = number == 0 ? Symbol.O : Symbol.X;
+    static Symbol generatePlayer1SymbolRandomly(RandomGenerator random) {
+        return random.nextInt(2) == 0 ? Symbol.O : Symbol.X;
+    }
+
+    private void configurePlayers(String player1name, String player2name, Symbol player1symbol) {
         Symbol player2symbol = player1symbol == Symbol.O ? Symbol.X : Symbol.O;
-        //https://stackoverflow.com/a/1005089
-        return Arrays.asList(player1symbol, player2symbol);
+        this.configurePlayer(0, player1name, player1symbol);
+        this.configurePlayer(1, player2name, player2symbol);
     }
 
-    private void configurePlayers(String... playerNames) {
-        List<Symbol> symbols = this.generatePlayerSymbolsRandomly();
-        this.players.add(new Player(playerNames[0], symbols.get(0)));
-        this.players.add(new Player(playerNames[1], symbols.get(1)));
+    private void configurePlayer(int index, String name, Symbol symbol) {
+        if(index == this.players.size()) {
+            this.players.add(new Player(name, symbol));
+            return;
+        }
+        Player player = this.players.get(index);
+        if(!player.name().equals(name) || player.symbol() != symbol) {
+            this.players.set(index, new Player(name, symbol));
+        }
     }
 
-    private void configureCells(GameBoardSize size) {
-        int cells = this.cellsInRow = size.getValue();
-        this.gameBoard = new ArrayList<>(cells * cells);
-        for(int i = 0; i < cells * cells; i++) {
-            this.gameBoard.add(null);
+    private void configureCells(BoardGeometry geometry) {
+        this.cellsInRow = geometry.cellsInRow;
+        if(this.gameBoard != null && this.gameBoard.getCellsInRow() == geometry.cellsInRow && this.gameBoard.getWinLength() == geometry.winLength) {
+            this.gameBoard.clear();
+        } else {
+            this.gameBoard = new BitBoard(geometry);
+            this.moveHistory = new int[geometry.cellCount];
+        }
+    }
+
+    //starts the next game with the same players, symbols and board - nothing is allocated
+    public void reset() {
+        if(!this.isConfigured()) throw new GameNotConfiguredException("The game is not configured! Cannot reset it!");
+        this.gameBoard.clear();
+        this.currentlyPlayingPlayer = this.players.getFirst();
+        this.gameStatus = GameStatus.UNSETTLED;
+        this.winner = null;
+        for(GameListener listener : this.listeners) {
+            listener.gameStarted(this);
         }
     }
 
     //GAMEPLAY
 
     public void insertSymbolIntoCellN(int cellNumber) {
-        if(!this.isConfigured()) throw new GameNotConfiguredException("The game is not configured! Cannot insert any cells!");
-        if(this.gameStatus.equals(GameStatus.UNSETTLED)) {
-            int gameBoardSize = this.gameBoard.size();
-            if (cellNumber > gameBoardSize || cellNumber < 0)
-                throw new CellNumberOutOfBoundsException("Incorrect cell number! Cell number should be from range ["
-                        + this.cellsInRow + "-" + gameBoardSize + "]");
-            if (this.gameBoard.get(cellNumber) != null)
-                throw new CellAlreadyTakenException("The cell already contains a symbol! Choose other cell!");
-
-            this.gameBoard.set(cellNumber, this.currentlyPlayingPlayer.symbol());
-            this.currentlyPlayingPlayer = this.players.indexOf(this.currentlyPlayingPlayer)
-                    == 0 ? this.players.get(1) : this.players.get(0);
-
-            this.checkGameBoardState();
-
-            if (this.gameStatus.equals(GameStatus.UNSETTLED) && this.gameMode.equals(GameMode.COMPUTER_VS_HUMAN)) {
-                this.gameBoard.set(this.chooseRandomCell(), this.currentlyPlayingPlayer.symbol());
-                this.currentlyPlayingPlayer = this.players.indexOf(this.currentlyPlayingPlayer)
-                        == 0 ? this.players.get(1) : this.players.get(0);
-                this.checkGameBoardState();
-            }
-        } else throw new GameAlreadyFinishedException("The game has already finished! Cannot insert any more cells!");
+        try {
+            int result = this.checkMove(cellNumber);
+            if(result != MoveResult.ACCEPTED) throw MoveResult.toException(result, this.gameBoard == null ? 0 : this.gameBoard.getCellCount());
+            this.playMove(cellNumber);
+        } catch(RuntimeException e) {
+            EngineMetrics.recordException(e);
+            throw e;
+        }
     }
 
-    // CALCULATIONS & OTHER
+    //like insertSymbolIntoCellN, but an illegal move is only reported with one of the MoveResult codes -
+    //nothing is thrown or allocated for it, e.g. for bots that send many bad moves
+    public int tryMove(int cellNumber) {
+        int result = this.checkMove(cellNumber);
+        if(result != MoveResult.ACCEPTED) {
+            if(EngineMetrics.enabled()) EngineMetrics.recordRejectedMove(result);
+            return result;
+        }
+        this.playMove(cellNumber);
+        return MoveResult.ACCEPTED;
+    }
 
-    private int chooseRandomCell() {
-        Random random = new Random();
-        int randomCell = random.nextInt(this.cellsInRow * this.cellsInRow);
-        while(this.gameBoard.get(randomCell) != null) {
-            randomCell = random.nextInt(this.cellsInRow * this.cellsInRow);
+    private int checkMove(int cellNumber) {
+        if(!this.isConfigured()) return MoveResult.NOT_CONFIGURED;
+        if(!this.gameStatus.equals(GameStatus.UNSETTLED)) return MoveResult.GAME_FINISHED;
+        if(cellNumber >= this.gameBoard.getCellCount() || cellNumber < 0) return MoveResult.CELL_OUT_OF_BOUNDS;
+        if(!this.gameBoard.isEmpty(cellNumber)) return MoveResult.CELL_TAKEN;
+        return MoveResult.ACCEPTED;
+    }
+
+    private void playMove(int cellNumber) {
+        this.makeMove(cellNumber);
+        if (this.gameStatus.equals(GameStatus.UNSETTLED) && this.gameMode.equals(GameMode.COMPUTER_VS_HUMAN)) {
+            this.makeMove(this.chooseComputerCell());
         }
-        return randomCell;
     }
 
-    private void checkGameBoardState() {
-        this.checkDiagonalState();
-        this.checkHorizontalAndVerticalState();
-        if(this.gameStatus.equals(GameStatus.UNSETTLED) && this.gameBoard.size() == cellsInRow * cellsInRow && !this.gameBoard.contains(null)) {
-            this.gameStatus = GameStatus.TIE;
+    private int chooseComputerCell() {
+        if(!EngineMetrics.enabled()) return this.computerStrategy.chooseCell(this.gameBoard, this.currentlyPlayingPlayer.symbol());
+        long start = System.nanoTime();
+        int cell = this.computerStrategy.chooseCell(this.gameBoard, this.currentlyPlayingPlayer.symbol());
+        EngineMetrics.recordComputerMove(System.nanoTime() - start);
+        return cell;
+    }
+
+    //lets the strategy choose the cell for the currently playing player, e.g. for computer vs computer games
+    public void insertSymbolChosenBy(MoveStrategy strategy) {
+        if(!this.isConfigured()) throw new GameNotConfiguredException("The game is not configured! Cannot insert any cells!");
+        if(!this.gameStatus.equals(GameStatus.UNSETTLED)) throw new GameAlreadyFinishedException("The game has already finished! Cannot insert any more cells!");
+        if(!EngineMetrics.enabled()) {
+            this.insertSymbolIntoCellN(strategy.chooseCell(this.gameBoard, this.currentlyPlayingPlayer.symbol()));
+            return;
         }
+        long start = System.nanoTime();
+        int cell = strategy.chooseCell(this.gameBoard, this.currentlyPlayingPlayer.symbol());
+        EngineMetrics.recordComputerMove(System.nanoTime() - start);
+        this.insertSymbolIntoCellN(cell);
     }
 
-    private void checkDiagonalState() {
-        if(this.gameStatus.equals(GameStatus.UNSETTLED)) {
-            boolean complete = true;
-            Symbol lastSymbol = null;
-            //left to right
-            for (int i = 0; i < this.cellsInRow * this.cellsInRow; i += this.cellsInRow + 1) {
-                if (i != 0) {
-                    if (this.gameBoard.get(i) != lastSymbol || this.gameBoard.get(i) == null) complete = false;
-                }
-                lastSymbol = this.gameBoard.get(i);
-            }
-            //right to left
-            if(!complete) {
-                complete = true;
-                lastSymbol = null;
-                for (int i = this.cellsInRow - 1; i <= this.cellsInRow * this.cellsInRow - this.cellsInRow; i += this.cellsInRow - 1) {
-                    if (i != this.cellsInRow - 1) {
-                        if (this.gameBoard.get(i) != lastSymbol || this.gameBoard.get(i) == null) complete = false;
-                    }
-                    lastSymbol = this.gameBoard.get(i);
-                }
-            }
-            if (complete) {
-                this.gameStatus = GameStatus.HAS_WINNER;
-                this.winner = this.players.get(0).symbol() == lastSymbol ? this.players.get(0) : this.players.get(1);
-            }
+    private void makeMove(int cellNumber) {
+        Player movingPlayer = this.currentlyPlayingPlayer;
+        int moveIndex = this.gameBoard.getMoveCount();
+        this.moveHistory[moveIndex] = cellNumber;
+        long start = EngineMetrics.enabled() ? System.nanoTime() : 0L;
+        boolean completedLine = this.gameBoard.place(cellNumber, movingPlayer.symbol());
+        this.currentlyPlayingPlayer = this.players.get(0) == movingPlayer ? this.players.get(1) : this.players.get(0);
+        this.checkGameBoardState(movingPlayer, completedLine);
+        if(start != 0L) EngineMetrics.recordMove(System.nanoTime() - start, this.gameStatus != GameStatus.UNSETTLED);
+        for(GameListener listener : this.listeners) {
+            listener.movePlayed(moveIndex, cellNumber, movingPlayer.symbol(), this.gameStatus, this.winner);
         }
     }
 
-    private void checkHorizontalAndVerticalState() {
-        if(this.gameStatus.equals(GameStatus.UNSETTLED)) {
-            for(int i = 1; i <= this.cellsInRow; i++) {
-                boolean complete = true;
-                Symbol lastSymbol = null;
-
-                for (int j = i * this.cellsInRow - this.cellsInRow; j < i * this.cellsInRow; j++) {
-                    if (j != i * this.cellsInRow - this.cellsInRow) {
-                        if (this.gameBoard.get(j) != lastSymbol || this.gameBoard.get(j) == null) complete = false;
-                    }
-                    lastSymbol = this.gameBoard.get(j);
-                }
-
-                if(!complete) {
-                    complete = true;
-                    lastSymbol = null;
-                    for (int j = i - 1; j <= this.cellsInRow * this.cellsInRow - this.cellsInRow + i - 1; j += this.cellsInRow) {
-                        if (j != i - 1) {
-                            if (this.gameBoard.get(j) != lastSymbol || this.gameBoard.get(j) == null) complete = false;
-                        }
-                        lastSymbol = this.gameBoard.get(j);
-                    }
-                }
-
-                if (complete) {
-                    this.gameStatus = GameStatus.HAS_WINNER;
-                    this.winner = this.players.get(0).symbol() == lastSymbol ? this.players.get(0) : this.players.get(1);
-                }
-            }
+    // CALCULATIONS & OTHER
+
+    //only the player who has just moved can complete a line, and only one crossing the cell just played
+    private void checkGameBoardState(Player movingPlayer, boolean completedLine) {
+        if(completedLine) {
+            this.gameStatus = GameStatus.HAS_WINNER;
+            this.winner = movingPlayer;
+        } else if(this.gameBoard.isFull()) {
+            this.gameStatus = GameStatus.TIE;
         }
     }
 }
@@ -0,0 +1,57 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//a game event packed into one long, as GameEventBuffer keeps them
+//bits 0-15 cell (cells in row for STARTED), 16-31 move index, 32-33 symbol, 34-35 status, 36-37 winner symbol, 38-39 kind
+//symbols are stored as ordinal + 1, so 0 means none
+public final class GameEvent {
+    public static final int STARTED = 1;
+    public static final int MOVE = 2;
+
+    private static final Symbol[] SYMBOLS = Symbol.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    private GameEvent() {
+    }
+
+    public static long started(int cellsInRow) {
+        return cellsInRow | (long) STARTED << 38;
+    }
+
+    public static long move(int moveIndex, int cell, Symbol symbol, GameStatus status, Player winner) {
+        return cell | (long) moveIndex << 16 | (long) (symbol.ordinal() + 1) << 32 | (long) status.ordinal() << 34
+                | (long) (winner == null ? 0 : winner.symbol().ordinal() + 1) << 36 | (long) MOVE << 38;
+    }
+
+    public static int kind(long event) {
+        return (int) (event >>> 38) & 3;
+    }
+
+    public static int cell(long event) {
+        return (int) event & 0xFFFF;
+    }
+
+    public static int cellsInRow(long event) {
+        return (int) event & 0xFFFF;
+    }
+
+    public static int moveIndex(long event) {
+        return (int) (event >>> 16) & 0xFFFF;
+    }
+
+    public static Symbol symbol(long event) {
+        return symbol((int) (event >>> 32) & 3);
+    }
+
+    public static GameStatus status(long event) {
+        return STATUSES[(int) (event >>> 34) & 3];
+    }
+
+    //null unless the move won the game
+    public static Symbol winner(long event) {
+        return symbol((int) (event >>> 36) & 3);
+    }
+
+    private static Symbol symbol(int stored) {
+        return stored == 0 ? null : SYMBOLS[stored - 1];
+    }
+}
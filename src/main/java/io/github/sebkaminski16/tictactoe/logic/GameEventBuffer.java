@@ -0,0 +1,108 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+//bounded ring of the last events of a game, packed by GameEvent - the game writes, any number of readers on other
+//threads follow it without locks, e.g. renderers, loggers or spectators of a server game
+//the game never waits: a reader keeps up to capacity - 1 unread events - the slot of the oldest one is the next one
+//to be written - and when it falls further behind it loses the oldest events and is told how many
+//every event has a sequence number, counting from 0; only the thread playing the game may publish
+public final class GameEventBuffer implements GameListener {
+    private static final VarHandle PUBLISHED;
+
+    static {
+        try {
+            PUBLISHED = MethodHandles.lookup().findVarHandle(GameEventBuffer.class, "published", long.class);
+        } catch(ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long[] events;
+    private final int mask;
+    //sequence number of the next event, the events below it are visible to readers
+    private volatile long published = 0;
+
+    public GameEventBuffer(int capacity) {
+        if(capacity < 2 || Integer.bitCount(capacity) != 1) throw new IncorrectEventBufferCapacityException("Capacity of the event buffer has to be a power of 2!");
+        this.events = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return this.events.length;
+    }
+
+    public long getPublished() {
+        return this.published;
+    }
+
+    @Override
+    public void gameStarted(Game game) {
+        this.publish(GameEvent.started(game.getCellsInRow()));
+    }
+
+    @Override
+    public void movePlayed(int moveIndex, int cell, Symbol symbol, GameStatus status, Player winner) {
+        this.publish(GameEvent.move(moveIndex, cell, symbol, status, winner));
+    }
+
+    //the fence keeps the slot write from overtaking the publication of the previous event - otherwise a reader
+    //could see the old sequence number after the slot of its oldest event was overwritten and take that as intact
+    private void publish(long event) {
+        long sequence = this.published;
+        VarHandle.storeStoreFence();
+        this.events[(int) sequence & this.mask] = event;
+        PUBLISHED.setRelease(this, sequence + 1);
+    }
+
+    //follows the buffer from the events published after it was created
+    public Reader newReader() {
+        return new Reader(this.published);
+    }
+
+    //one per consumer, not to be shared between threads
+    public final class Reader {
+        private long next;
+        private long lost = 0;
+
+        private Reader(long next) {
+            this.next = next;
+        }
+
+        //sequence number of the next event poll returns
+        public long getNext() {
+            return this.next;
+        }
+
+        //events overwritten before this reader got to them
+        public long getLost() {
+            return this.lost;
+        }
+
+        //copies the next events, as many as fit, and returns their number - 0 when there is nothing new
+        public int poll(long[] into) {
+            long end = (long) PUBLISHED.getAcquire(GameEventBuffer.this);
+            long oldest = end - GameEventBuffer.this.events.length + 1;
+            if(this.next < oldest) {
+                this.lost += oldest - this.next;
+                this.next = oldest;
+            }
+            int count = (int) Math.min(into.length, end - this.next);
+            for(int i = 0; i < count; i++) {
+                into[i] = GameEventBuffer.this.events[(int) (this.next + i) & GameEventBuffer.this.mask];
+            }
+            //the slot of the event being published at the moment may be half written, so it does not count as intact
+            VarHandle.acquireFence();
+            long intact = (long) PUBLISHED.getAcquire(GameEventBuffer.this) - GameEventBuffer.this.events.length + 1;
+            int overwritten = (int) Math.max(0, Math.min(count, intact - this.next));
+            if(overwritten > 0) {
+                System.arraycopy(into, overwritten, into, 0, count - overwritten);
+                this.lost += overwritten;
+            }
+            this.next += count;
+            return count - overwritten;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//told about every change of a Game, on the thread that plays it and before the call that made the change returns
+//a listener must not change the game, and whatever it throws reaches the caller of that call
+public interface GameListener {
+    //a new game on an empty board - after configure and every reset
+    default void gameStarted(Game game) {
+    }
+
+    //moveIndex counts from 0, status is the one after the move and winner is only set when the move won the game
+    void movePlayed(int moveIndex, int cell, Symbol symbol, GameStatus status, Player winner);
+}
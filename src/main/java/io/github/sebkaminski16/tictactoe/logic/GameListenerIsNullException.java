@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class GameListenerIsNullException extends RuntimeException {
+    public GameListenerIsNullException(String message) {
+        super(message);
+    }
+}
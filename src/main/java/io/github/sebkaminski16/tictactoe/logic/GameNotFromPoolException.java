@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class GameNotFromPoolException extends RuntimeException {
+    public GameNotFromPoolException(String message) {
+        super(message);
+    }
+}
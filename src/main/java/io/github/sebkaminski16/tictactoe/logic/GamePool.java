@@ -0,0 +1,74 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+//pre-configured games of one board size and one set of players, handed out reset and ready to play
+//acquire and release do not allocate - a new game is only created when every pooled one is in use
+//only games acquired from the pool are taken back, and each only once until it is acquired again
+//safe to share between threads
+public class GamePool {
+    private final GameBoardSize size;
+    private final String[] playerNames;
+    //as the games resolve them, to tell whether a borrower configured a released game for other players
+    private final String player1name;
+    private final String player2name;
+    private final GameMode gameMode;
+    private final Game[] free;
+    private int freeCount = 0;
+    //identity set of the games of this pool that are in use
+    private final Set<Game> acquired = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public GamePool(int capacity, GameBoardSize size, String... playerNames) {
+        if(capacity <= 0) throw new IncorrectPoolCapacityException("Pool capacity has to be positive!");
+        this.size = size;
+        this.playerNames = playerNames.clone();
+        String[] names = Game.resolvePlayerNames(this.playerNames);
+        this.player1name = names[0];
+        this.player2name = names[1];
+        this.gameMode = playerNames.length > 1 ? GameMode.HUMAN_VS_HUMAN : GameMode.COMPUTER_VS_HUMAN;
+        this.free = new Game[capacity];
+        for(int i = 0; i < capacity; i++) {
+            this.free[this.freeCount++] = this.createGame();
+        }
+    }
+
+    public GameBoardSize getSize() {
+        return this.size;
+    }
+
+    public synchronized int getAvailable() {
+        return this.freeCount;
+    }
+
+    public Game acquire() {
+        Game game;
+        synchronized(this) {
+            game = this.freeCount > 0 ? this.free[--this.freeCount] : null;
+            if(game != null) this.free[this.freeCount] = null;
+            else game = this.createGame();
+            this.acquired.add(game);
+        }
+        return game;
+    }
+
+    //the game is cleared and reset here, so it comes out of the pool ready to play - when the pool is full it is dropped
+    public void release(Game game) {
+        synchronized(this) {
+            if(!this.acquired.remove(game)) throw new GameNotFromPoolException("The game was not acquired from this pool or was already released!");
+        }
+        game.clearListenersAndComputerStrategy();
+        if(!game.isConfiguredAs(this.size, this.gameMode, this.player1name, this.player2name)) game.configure(this.size, this.playerNames);
+        else game.reset();
+        synchronized(this) {
+            if(this.freeCount < this.free.length) this.free[this.freeCount++] = game;
+        }
+    }
+
+    private Game createGame() {
+        Game game = new Game();
+        game.configure(this.size, this.playerNames);
+        return game;
+    }
+}
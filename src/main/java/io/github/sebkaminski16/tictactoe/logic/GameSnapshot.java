@@ -0,0 +1,124 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.AbstractList;
+import java.util.List;
+
+//the complete state of a ConcurrentGame at one point in time - never changes once created, so it can be read by
+//any number of threads without locking; a move creates the next snapshot, copying only the bits of the board
+public final class GameSnapshot {
+    private final BoardGeometry geometry;
+    private final long[] xWords;
+    private final long[] oWords;
+    private final int moveCount;
+    private final GameStatus gameStatus;
+    private final Player currentlyPlayingPlayer;
+    private final Player winner;
+
+    private GameSnapshot(BoardGeometry geometry, long[] xWords, long[] oWords, int moveCount,
+                         GameStatus gameStatus, Player currentlyPlayingPlayer, Player winner) {
+        this.geometry = geometry;
+        this.xWords = xWords;
+        this.oWords = oWords;
+        this.moveCount = moveCount;
+        this.gameStatus = gameStatus;
+        this.currentlyPlayingPlayer = currentlyPlayingPlayer;
+        this.winner = winner;
+    }
+
+    static GameSnapshot initial(BoardGeometry geometry, Player firstPlayer) {
+        return new GameSnapshot(geometry, new long[geometry.wordCount], new long[geometry.wordCount], 0,
+                GameStatus.UNSETTLED, firstPlayer, null);
+    }
+
+    public GameStatus getGameStatus() {
+        return this.gameStatus;
+    }
+
+    public Player getCurrentlyPlayingPlayer() {
+        return this.currentlyPlayingPlayer;
+    }
+
+    public Player getWinner() {
+        return this.winner;
+    }
+
+    public int getMoveCount() {
+        return this.moveCount;
+    }
+
+    public int getCellCount() {
+        return this.geometry.cellCount;
+    }
+
+    public boolean isEmpty(int cell) {
+        int word = cell >>> 6;
+        return ((this.xWords[word] | this.oWords[word]) & (1L << cell)) == 0;
+    }
+
+    public Symbol getSymbol(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        if((this.xWords[word] & bit) != 0) return Symbol.X;
+        if((this.oWords[word] & bit) != 0) return Symbol.O;
+        return null;
+    }
+
+    //read-only view of this snapshot's board
+    public List<Symbol> getGameBoard() {
+        return new AbstractList<>() {
+            @Override
+            public Symbol get(int index) {
+                if(index < 0 || index >= geometry.cellCount) throw new IndexOutOfBoundsException(index);
+                return getSymbol(index);
+            }
+
+            @Override
+            public int size() {
+                return geometry.cellCount;
+            }
+        };
+    }
+
+    //a mutable board with the same symbols, e.g. for a MoveStrategy
+    public BitBoard toBitBoard() {
+        BitBoard board = new BitBoard(this.geometry);
+        for(int cell = 0; cell < this.geometry.cellCount; cell++) {
+            Symbol symbol = this.getSymbol(cell);
+            if(symbol != null) board.place(cell, symbol);
+        }
+        return board;
+    }
+
+    //the snapshot after the current player puts a symbol into the cell - the cell has to be empty
+    GameSnapshot withMove(int cell, Player nextPlayer) {
+        Symbol symbol = this.currentlyPlayingPlayer.symbol();
+        long[] words = (symbol == Symbol.X ? this.xWords : this.oWords).clone();
+        words[cell >>> 6] |= 1L << cell;
+        long[] xWords = symbol == Symbol.X ? words : this.xWords;
+        long[] oWords = symbol == Symbol.O ? words : this.oWords;
+        int moveCount = this.moveCount + 1;
+
+        //only a line through the cell just played can have been completed
+        if(this.completesLine(words, cell)) {
+            return new GameSnapshot(this.geometry, xWords, oWords, moveCount, GameStatus.HAS_WINNER, null, this.currentlyPlayingPlayer);
+        }
+        if(moveCount == this.geometry.cellCount) {
+            return new GameSnapshot(this.geometry, xWords, oWords, moveCount, GameStatus.TIE, null, null);
+        }
+        return new GameSnapshot(this.geometry, xWords, oWords, moveCount, GameStatus.UNSETTLED, nextPlayer, null);
+    }
+
+    private boolean completesLine(long[] words, int cell) {
+        for(int line : this.geometry.cellLines[cell]) {
+            boolean complete = true;
+            for(int lineCell : this.geometry.lineCells[line]) {
+                if((words[lineCell >>> 6] & (1L << lineCell)) == 0) {
+                    complete = false;
+                    break;
+                }
+            }
+            if(complete) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class IncorrectBatchSizeException extends RuntimeException {
+    public IncorrectBatchSizeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class IncorrectBoardSizeException extends RuntimeException {
+    public IncorrectBoardSizeException(String message) {
+        super(message);
+    }
+}
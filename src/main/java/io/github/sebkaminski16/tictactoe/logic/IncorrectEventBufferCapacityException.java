@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class IncorrectEventBufferCapacityException extends RuntimeException {
+    public IncorrectEventBufferCapacityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class IncorrectPoolCapacityException extends RuntimeException {
+    public IncorrectPoolCapacityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class IncorrectWinLengthException extends RuntimeException {
+    public IncorrectWinLengthException(String message) {
+        super(message);
+    }
+}
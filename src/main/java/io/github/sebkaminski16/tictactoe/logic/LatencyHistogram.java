@@ -0,0 +1,59 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//lock-free histogram of durations in nanoseconds, safe to record into from any number of threads
+//values below 8 get a bucket each, above that every power of two is split into 8 buckets, so a percentile
+//is reported at most 12.5% above the real value whatever its magnitude
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long nanos) {
+        this.counts.incrementAndGet(bucket(Math.max(0, nanos)));
+    }
+
+    public void reset() {
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            this.counts.set(bucket, 0);
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            count += this.counts.get(bucket);
+        }
+        return count;
+    }
+
+    //upper bound of the bucket holding the value at the given percentile (0-100], 0 when nothing was recorded
+    public long getValueAtPercentile(double percentile) {
+        long total = this.getCount();
+        if(total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts.get(bucket);
+            if(seen >= rank) return upperBound(bucket);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int bucket(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int bucket) {
+        if(bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
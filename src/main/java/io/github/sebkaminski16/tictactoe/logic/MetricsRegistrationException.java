@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class MetricsRegistrationException extends RuntimeException {
+    public MetricsRegistrationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class MoveIndexOutOfBoundsException extends RuntimeException {
+    public MoveIndexOutOfBoundsException(String message) {
+        super(message);
+    }
+}
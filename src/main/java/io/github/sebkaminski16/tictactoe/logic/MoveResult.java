@@ -0,0 +1,43 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//what Game.tryMove did with a move - plain ints, so a rejected move costs neither an exception nor an allocation
+//every rejection matches the exception insertSymbolIntoCellN throws for the same move
+//the exceptions of illegal moves, those and NotPlayersTurnException, have no stack trace - bots send plenty of them
+public final class MoveResult {
+    public static final int ACCEPTED = 0;
+    public static final int NOT_CONFIGURED = 1;
+    public static final int GAME_FINISHED = 2;
+    public static final int CELL_OUT_OF_BOUNDS = 3;
+    public static final int CELL_TAKEN = 4;
+    static final int COUNT = 5;
+
+    private static final String[] NAMES = {"ACCEPTED", "NOT_CONFIGURED", "GAME_FINISHED", "CELL_OUT_OF_BOUNDS", "CELL_TAKEN"};
+
+    private MoveResult() {
+    }
+
+    public static String name(int result) {
+        return NAMES[result];
+    }
+
+    //the message of the matching exception, for showing a rejected move to the player
+    public static String describe(int result, int cellCount) {
+        return switch(result) {
+            case NOT_CONFIGURED -> "The game is not configured! Cannot insert any cells!";
+            case GAME_FINISHED -> "The game has already finished! Cannot insert any more cells!";
+            case CELL_OUT_OF_BOUNDS -> "Incorrect cell number! Cell number should be from range [0-" + (cellCount - 1) + "]";
+            case CELL_TAKEN -> "The cell already contains a symbol! Choose other cell!";
+            default -> "The move was accepted!";
+        };
+    }
+
+    static RuntimeException toException(int result, int cellCount) {
+        String message = describe(result, cellCount);
+        return switch(result) {
+            case NOT_CONFIGURED -> new GameNotConfiguredException(message);
+            case GAME_FINISHED -> new GameAlreadyFinishedException(message);
+            case CELL_OUT_OF_BOUNDS -> new CellNumberOutOfBoundsException(message);
+            default -> new CellAlreadyTakenException(message);
+        };
+    }
+}
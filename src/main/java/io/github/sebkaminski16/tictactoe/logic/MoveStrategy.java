@@ -0,0 +1,6 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//decides where the computer puts its symbol - the board has to be left exactly as it was given
+public interface MoveStrategy {
+    int chooseCell(BitBoard board, Symbol symbol);
+}
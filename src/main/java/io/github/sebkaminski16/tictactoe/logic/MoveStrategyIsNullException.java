@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class MoveStrategyIsNullException extends RuntimeException {
+    public MoveStrategyIsNullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class NotPlayersTurnException extends RuntimeException {
+    public NotPlayersTurnException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+public class RandomGeneratorIsNullException extends RuntimeException {
+    public RandomGeneratorIsNullException(String message) {
+        super(message);
+    }
+}
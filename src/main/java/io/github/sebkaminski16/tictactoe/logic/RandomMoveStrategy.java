@@ -0,0 +1,32 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+//picks one of the board's free cells, no retries however full the board is
+public class RandomMoveStrategy implements SeededMoveStrategy {
+    //null - the random generator of the calling thread, so one instance can be shared by many threads
+    private RandomGenerator random;
+
+    public RandomMoveStrategy() {
+        this.random = null;
+    }
+
+    //a seeded generator makes the moves repeatable, it must not be used by more than one thread at a time
+    public RandomMoveStrategy(RandomGenerator random) {
+        if(random == null) throw new RandomGeneratorIsNullException("Random generator cannot be null!");
+        this.random = random;
+    }
+
+    //a seeded generator from now on, so the instance must not be shared between threads any more
+    @Override
+    public void reseed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseCell(BitBoard board, Symbol symbol) {
+        return board.getRandomFreeCell(this.random != null ? this.random : ThreadLocalRandom.current());
+    }
+}
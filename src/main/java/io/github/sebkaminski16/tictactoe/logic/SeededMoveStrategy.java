@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+//a strategy that can be started over, e.g. for every game of a simulation - after reseed it plays exactly like a new
+//instance given the same seed, without allocating its tables again
+public interface SeededMoveStrategy extends MoveStrategy {
+    void reseed(long seed);
+}
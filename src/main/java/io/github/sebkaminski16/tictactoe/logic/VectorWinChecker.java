@@ -0,0 +1,44 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+//the vector half of BatchWinChecker, only loaded when the incubator module is there
+//one lane per board: every win line is tested against all lanes at once, the lane masks of the outcome are then
+//turned into result bytes
+final class VectorWinChecker {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorWinChecker() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    static void evaluate(long[] lines, long fullMask, long[] xCells, long[] oCells, byte[] results, int count) {
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(count);
+        int board = 0;
+        for(; board < bound; board += lanes) {
+            LongVector x = LongVector.fromArray(SPECIES, xCells, board);
+            LongVector o = LongVector.fromArray(SPECIES, oCells, board);
+            VectorMask<Long> xWins = SPECIES.maskAll(false);
+            VectorMask<Long> oWins = SPECIES.maskAll(false);
+            for(long line : lines) {
+                xWins = xWins.or(x.and(line).compare(VectorOperators.EQ, line));
+                oWins = oWins.or(o.and(line).compare(VectorOperators.EQ, line));
+            }
+            long xBits = xWins.toLong();
+            long oBits = oWins.andNot(xWins).toLong();
+            long fullBits = x.or(o).compare(VectorOperators.EQ, fullMask).toLong() & ~(xBits | oBits);
+            for(int lane = 0; lane < lanes; lane++) {
+                results[board + lane] = (byte) (((xBits >>> lane) & 1) * BatchWinChecker.X_WINS
+                        + ((oBits >>> lane) & 1) * BatchWinChecker.O_WINS + ((fullBits >>> lane) & 1) * BatchWinChecker.TIE);
+            }
+        }
+        BatchWinChecker.evaluateScalar(lines, fullMask, xCells, oCells, results, board, count);
+    }
+}
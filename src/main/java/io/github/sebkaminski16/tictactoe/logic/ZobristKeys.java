@@ -0,0 +1,48 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+//fixed seed, so a position hashes to the same key in every run - and the key of a cell does not depend on the
+//size of the board, the keys are drawn in cell order
+//immutable and shared, every BitBoard keeps its hash with the keys of its cell count
+public class ZobristKeys {
+    private static final ConcurrentHashMap<Integer, ZobristKeys> KEYS = new ConcurrentHashMap<>();
+
+    private final long[] xKeys;
+    private final long[] oKeys;
+    private final long oToMoveKey;
+
+    private ZobristKeys(int cellCount) {
+        SplittableRandom random = new SplittableRandom(0x5EB_CAFE_2025L);
+        this.xKeys = new long[cellCount];
+        this.oKeys = new long[cellCount];
+        for(int i = 0; i < cellCount; i++) {
+            this.xKeys[i] = random.nextLong();
+            this.oKeys[i] = random.nextLong();
+        }
+        this.oToMoveKey = random.nextLong();
+    }
+
+    public static ZobristKeys of(int cellCount) {
+        return KEYS.computeIfAbsent(cellCount, ZobristKeys::new);
+    }
+
+    public long key(int cell, Symbol symbol) {
+        return symbol == Symbol.X ? this.xKeys[cell] : this.oKeys[cell];
+    }
+
+    public int getCellCount() {
+        return this.xKeys.length;
+    }
+
+    //xor-ed in on every move, since the side to move always flips
+    public long sideToMoveKey() {
+        return this.oToMoveKey;
+    }
+
+    //the board keeps the hash of its cells up to date, only the side to move is added here
+    public long hash(BitBoard board, Symbol toMove) {
+        return board.getHash() ^ (toMove == Symbol.O ? this.oToMoveKey : 0L);
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//read-only, memory-mapped collection of games written by GameArchiveBuilder, games are numbered from 0
+//every game is a fixed-width 24 byte record - player ids, rules, outcome, move count and the offset of its moves -
+//so a game is looked at by reading a few bytes where it lies instead of deserializing it
+//secondary indexes are sorted lists of game numbers for every board size, outcome, player and winner; they are
+//handed out as views of the mapped file and can be intersected without touching the records
+//file: 64 byte header, player names (byte length + UTF-8), records, index directory (int start, int count per key),
+//postings (int game numbers), moves (one or two bytes per move, like in the game log)
+//every section is mapped on its own and has to stay below 2 GB - tens of millions of games
+public class GameArchive {
+    public static final int MAGIC = 0x54545441;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int RECORD_SIZE = 24;
+    public static final int NO_WINNER = 0;
+    static final int MAX_CELLS_IN_ROW = 32;
+
+    private final String[] playerNames;
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final int games;
+    private final ByteBuffer records;
+    private final int[] directory;
+    private final IntBuffer postings;
+    private final ByteBuffer moves;
+
+    private GameArchive(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        if(header.position() < HEADER_SIZE || header.getInt(0) != MAGIC || header.get(4) != VERSION)
+            throw new GameLogFormatException("Not a game archive file or unsupported version!");
+        int playerCount = header.getInt(8);
+        this.games = header.getInt(12);
+        long namesOffset = header.getLong(16);
+        long recordsOffset = header.getLong(24);
+        long directoryOffset = header.getLong(32);
+        long postingsOffset = header.getLong(40);
+        long movesOffset = header.getLong(48);
+        if(movesOffset > channel.size() || directoryOffset - recordsOffset != (long) this.games * RECORD_SIZE)
+            throw new GameLogFormatException("The game archive is truncated!");
+
+        ByteBuffer names = map(channel, namesOffset, recordsOffset);
+        this.playerNames = new String[playerCount];
+        byte[] name = new byte[GameLogWriter.MAX_NAME_BYTES];
+        for(int player = 0; player < playerCount; player++) {
+            int length = names.get() & 0xFF;
+            names.get(name, 0, length);
+            this.playerNames[player] = new String(name, 0, length, StandardCharsets.UTF_8);
+            this.playerIds.put(this.playerNames[player], player);
+        }
+        this.records = map(channel, recordsOffset, directoryOffset);
+        IntBuffer directory = map(channel, directoryOffset, postingsOffset).asIntBuffer();
+        this.directory = new int[directory.remaining()];
+        directory.get(this.directory);
+        this.postings = map(channel, postingsOffset, movesOffset).asIntBuffer();
+        this.moves = map(channel, movesOffset, channel.size());
+    }
+
+    public static GameArchive open(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new GameArchive(channel);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long from, long to) throws IOException {
+        if(to < from || to > channel.size()) throw new GameLogFormatException("The game archive is truncated!");
+        if(to - from > Integer.MAX_VALUE) throw new GameLogFormatException("A section of the game archive is too large to be mapped!");
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+    }
+
+    public int getGameCount() {
+        return this.games;
+    }
+
+    public List<String> getPlayerNames() {
+        return List.of(this.playerNames);
+    }
+
+    //QUERIES - sorted game numbers, read-only views of the archive
+
+    public IntBuffer gamesOnBoard(int cellsInRow) {
+        if(cellsInRow < 0 || cellsInRow > MAX_CELLS_IN_ROW) return IntBuffer.allocate(0);
+        return this.postingList(cellsInRow);
+    }
+
+    public IntBuffer gamesEndingIn(GameStatus status) {
+        return this.postingList(MAX_CELLS_IN_ROW + 1 + status.ordinal());
+    }
+
+    public IntBuffer gamesPlayedBy(String playerName) {
+        Integer player = this.playerIds.get(playerName);
+        if(player == null) return IntBuffer.allocate(0);
+        return this.postingList(this.playersBase() + player);
+    }
+
+    public IntBuffer gamesWonBy(String playerName) {
+        Integer player = this.playerIds.get(playerName);
+        if(player == null) return IntBuffer.allocate(0);
+        return this.postingList(this.playersBase() + this.playerNames.length + player);
+    }
+
+    //game numbers present in every list, the lists are merged without copying them
+    public static int[] intersect(IntBuffer... lists) {
+        if(lists.length == 0) return new int[0];
+        int[] result = new int[lists[0].remaining()];
+        int count = 0;
+        int[] positions = new int[lists.length];
+        for(int i = 0; i < lists[0].remaining(); i++) {
+            int game = lists[0].get(lists[0].position() + i);
+            boolean inAll = true;
+            for(int list = 1; list < lists.length && inAll; list++) {
+                IntBuffer other = lists[list];
+                while(positions[list] < other.remaining() && other.get(other.position() + positions[list]) < game) positions[list]++;
+                inAll = positions[list] < other.remaining() && other.get(other.position() + positions[list]) == game;
+            }
+            if(inAll) result[count++] = game;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    //RECORDS
+
+    public String getPlayer1Name(int game) {
+        return this.playerNames[this.records.getInt(this.recordOffset(game))];
+    }
+
+    public String getPlayer2Name(int game) {
+        return this.playerNames[this.records.getInt(this.recordOffset(game) + 4)];
+    }
+
+    public int getCellsInRow(int game) {
+        return cellsInRow(this.info(game));
+    }
+
+    public int getWinLength(int game) {
+        return (int) (this.info(game) >>> 8) & 0xFF;
+    }
+
+    public GameMode getGameMode(int game) {
+        return (flags(this.info(game)) & GameLogWriter.FLAG_COMPUTER_VS_HUMAN) != 0 ? GameMode.COMPUTER_VS_HUMAN : GameMode.HUMAN_VS_HUMAN;
+    }
+
+    public GameStatus getGameStatus(int game) {
+        return status(this.info(game));
+    }
+
+    //null unless the game has a winner
+    public String getWinnerName(int game) {
+        int winner = winner(this.info(game));
+        if(winner == NO_WINNER) return null;
+        return winner == 1 ? this.getPlayer1Name(game) : this.getPlayer2Name(game);
+    }
+
+    public int getMoveCount(int game) {
+        return moveCount(this.info(game));
+    }
+
+    public int getMove(int game, int index) {
+        long info = this.info(game);
+        if(index < 0 || index >= moveCount(info)) throw new GameLogFormatException("Game " + game + " has no move " + index + "!");
+        int movesOffset = (int) this.records.getLong(this.recordOffset(game) + 16);
+        int cellsInRow = cellsInRow(info);
+        if(cellsInRow * cellsInRow <= GameLogWriter.MAX_ONE_BYTE_CELLS) return this.moves.get(movesOffset + index) & 0xFF;
+        return this.moves.getShort(movesOffset + index * 2) & 0xFFFF;
+    }
+
+    //the whole game, e.g. to replay it with GameLogReader.replay
+    public GameRecord getRecord(int game) {
+        long info = this.info(game);
+        Symbol player1symbol = (flags(info) & GameLogWriter.FLAG_PLAYER1_PLAYS_X) != 0 ? Symbol.X : Symbol.O;
+        Symbol player2symbol = player1symbol == Symbol.X ? Symbol.O : Symbol.X;
+        int[] moves = new int[moveCount(info)];
+        for(int i = 0; i < moves.length; i++) {
+            moves[i] = this.getMove(game, i);
+        }
+        return new GameRecord(cellsInRow(info), this.getWinLength(game), this.getGameMode(game),
+                new Player(this.getPlayer1Name(game), player1symbol), new Player(this.getPlayer2Name(game), player2symbol), moves);
+    }
+
+    private int playersBase() {
+        return MAX_CELLS_IN_ROW + 1 + GameStatus.values().length;
+    }
+
+    private IntBuffer postingList(int key) {
+        return this.postings.slice(this.directory[key * 2], this.directory[key * 2 + 1]).asReadOnlyBuffer();
+    }
+
+    private int recordOffset(int game) {
+        if(game < 0 || game >= this.games) throw new GameLogFormatException("There is no game " + game + " in the archive!");
+        return game * RECORD_SIZE;
+    }
+
+    private long info(int game) {
+        return this.records.getLong(this.recordOffset(game) + 8);
+    }
+
+    //INFO PACKING - bits 0-7 cells in row, 8-15 win length, 16-23 flags, 24-31 status, 32-39 winner, 40-55 moves
+
+    static long packInfo(int cellsInRow, int winLength, int flags, GameStatus status, int winner, int moveCount) {
+        return cellsInRow | (long) winLength << 8 | (long) flags << 16 | (long) status.ordinal() << 24
+                | (long) winner << 32 | (long) moveCount << 40;
+    }
+
+    static int cellsInRow(long info) {
+        return (int) info & 0xFF;
+    }
+
+    static int flags(long info) {
+        return (int) (info >>> 16) & 0xFF;
+    }
+
+    static GameStatus status(long info) {
+        return GameStatus.values()[(int) (info >>> 24) & 0xFF];
+    }
+
+    static int winner(long info) {
+        return (int) (info >>> 32) & 0xFF;
+    }
+
+    static int moveCount(long info) {
+        return (int) (info >>> 40) & 0xFFFF;
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//collects games and writes them as a GameArchive - only a few primitive values per game stay on the heap,
+//the moves go straight to a temporary file next to the archive and are copied behind the indexes at the end
+public class GameArchiveBuilder implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final Path archive;
+    private final Path movesFile;
+    private final FileChannel moves;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private int[] player1 = new int[INITIAL_CAPACITY];
+    private int[] player2 = new int[INITIAL_CAPACITY];
+    //cells in row, win length, flags, status and winner packed the way they are stored
+    private long[] info = new long[INITIAL_CAPACITY];
+    private long[] movesOffsets = new long[INITIAL_CAPACITY];
+    private int games = 0;
+    private long movesSize = 0;
+    private BitBoard board = null;
+
+    public GameArchiveBuilder(Path archive) throws IOException {
+        this.archive = archive;
+        Path directory = archive.toAbsolutePath().getParent();
+        this.movesFile = Files.createTempFile(directory, archive.getFileName().toString(), ".moves");
+        this.moves = FileChannel.open(this.movesFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    //log -> archive in one go
+    public static void fromLog(Path log, Path archive) throws IOException {
+        try(GameLogReader reader = new GameLogReader(log); GameArchiveBuilder builder = new GameArchiveBuilder(archive)) {
+            GameRecord record;
+            while((record = reader.next()) != null) {
+                builder.add(record);
+            }
+            builder.build();
+        }
+    }
+
+    public int getGameCount() {
+        return this.games;
+    }
+
+    //the outcome is worked out by playing the moves on a board
+    public void add(GameRecord record) throws IOException {
+        if(this.games == Integer.MAX_VALUE) throw new GameNotLoggableException("The archive cannot hold more games!");
+        if(this.games == this.info.length) this.grow();
+
+        int winner = this.playMoves(record);
+        GameStatus status = winner != GameArchive.NO_WINNER ? GameStatus.HAS_WINNER
+                : this.board.isFull() ? GameStatus.TIE : GameStatus.UNSETTLED;
+        int flags = (record.gameMode() == GameMode.COMPUTER_VS_HUMAN ? GameLogWriter.FLAG_COMPUTER_VS_HUMAN : 0)
+                | (record.player1().symbol() == Symbol.X ? GameLogWriter.FLAG_PLAYER1_PLAYS_X : 0);
+
+        this.player1[this.games] = this.playerId(record.player1().name());
+        this.player2[this.games] = this.playerId(record.player2().name());
+        this.info[this.games] = GameArchive.packInfo(record.cellsInRow(), record.winLength(), flags, status, winner, record.moves().length);
+        this.movesOffsets[this.games] = this.movesSize;
+        this.games++;
+
+        boolean oneByte = record.cellsInRow() * record.cellsInRow() <= GameLogWriter.MAX_ONE_BYTE_CELLS;
+        if(this.buffer.remaining() < record.moves().length * 2) this.flushMoves();
+        for(int move : record.moves()) {
+            if(oneByte) this.buffer.put((byte) move);
+            else this.buffer.putShort((short) move);
+        }
+        this.movesSize += (long) record.moves().length * (oneByte ? 1 : 2);
+    }
+
+    //writes the archive: header, player names, records, index directory, postings, moves
+    public void build() throws IOException {
+        this.flushMoves();
+        int playerCount = this.playerNames.size();
+
+        //postings are built with a counting sort, every list ends up in game order
+        int boardKeys = GameArchive.MAX_CELLS_IN_ROW + 1;
+        int statusKeys = GameStatus.values().length;
+        int[] counts = new int[boardKeys + statusKeys + playerCount * 2];
+        int playersBase = boardKeys + statusKeys;
+        int winnersBase = playersBase + playerCount;
+        for(int game = 0; game < this.games; game++) {
+            counts[GameArchive.cellsInRow(this.info[game])]++;
+            counts[boardKeys + GameArchive.status(this.info[game]).ordinal()]++;
+            counts[playersBase + this.player1[game]]++;
+            counts[playersBase + this.player2[game]]++;
+            int winner = GameArchive.winner(this.info[game]);
+            if(winner != GameArchive.NO_WINNER) counts[winnersBase + (winner == 1 ? this.player1[game] : this.player2[game])]++;
+        }
+        int[] starts = new int[counts.length];
+        long total = 0;
+        for(int key = 0; key < counts.length; key++) {
+            starts[key] = (int) total;
+            total += counts[key];
+        }
+        if(total > Integer.MAX_VALUE / Integer.BYTES) throw new GameNotLoggableException("Too many games for one archive!");
+        int[] postings = new int[(int) total];
+        int[] next = starts.clone();
+        for(int game = 0; game < this.games; game++) {
+            postings[next[GameArchive.cellsInRow(this.info[game])]++] = game;
+            postings[next[boardKeys + GameArchive.status(this.info[game]).ordinal()]++] = game;
+            postings[next[playersBase + this.player1[game]]++] = game;
+            postings[next[playersBase + this.player2[game]]++] = game;
+            int winner = GameArchive.winner(this.info[game]);
+            if(winner != GameArchive.NO_WINNER) postings[next[winnersBase + (winner == 1 ? this.player1[game] : this.player2[game])]++] = game;
+        }
+
+        byte[][] names = new byte[playerCount][];
+        long namesSize = 0;
+        for(int player = 0; player < playerCount; player++) {
+            names[player] = this.playerNames.get(player).getBytes(StandardCharsets.UTF_8);
+            namesSize += 1 + names[player].length;
+        }
+        long namesOffset = GameArchive.HEADER_SIZE;
+        long recordsOffset = namesOffset + namesSize;
+        long directoryOffset = recordsOffset + (long) this.games * GameArchive.RECORD_SIZE;
+        long postingsOffset = directoryOffset + (long) counts.length * 2 * Integer.BYTES;
+        long movesOffset = postingsOffset + total * Integer.BYTES;
+
+        //a failed build leaves neither the temporary archive nor half a buffer behind
+        Path temporary = Files.createTempFile(this.archive.toAbsolutePath().getParent(), this.archive.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            this.writeArchive(temporary, playerCount, names, namesOffset, recordsOffset, directoryOffset, postingsOffset, movesOffset, counts, starts, postings);
+            Files.move(temporary, this.archive, StandardCopyOption.REPLACE_EXISTING);
+            moved = true;
+        } finally {
+            if(!moved) {
+                this.buffer.clear();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    private void writeArchive(Path temporary, int playerCount, byte[][] names, long namesOffset, long recordsOffset, long directoryOffset,
+                              long postingsOffset, long movesOffset, int[] counts, int[] starts, int[] postings) throws IOException {
+        try(FileChannel out = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.buffer.putInt(GameArchive.MAGIC).put(GameArchive.VERSION).put((byte) 0).putShort((short) 0);
+            this.buffer.putInt(playerCount).putInt(this.games);
+            this.buffer.putLong(namesOffset).putLong(recordsOffset).putLong(directoryOffset).putLong(postingsOffset).putLong(movesOffset);
+            while(this.buffer.position() < GameArchive.HEADER_SIZE) {
+                this.buffer.put((byte) 0);
+            }
+            for(byte[] name : names) {
+                this.ensure(out, 1 + name.length);
+                this.buffer.put((byte) name.length).put(name);
+            }
+            for(int game = 0; game < this.games; game++) {
+                this.ensure(out, GameArchive.RECORD_SIZE);
+                this.buffer.putInt(this.player1[game]).putInt(this.player2[game]).putLong(this.info[game]).putLong(this.movesOffsets[game]);
+            }
+            for(int key = 0; key < counts.length; key++) {
+                this.ensure(out, 2 * Integer.BYTES);
+                this.buffer.putInt(starts[key]).putInt(counts[key]);
+            }
+            for(int posting : postings) {
+                this.ensure(out, Integer.BYTES);
+                this.buffer.putInt(posting);
+            }
+            this.writeBuffer(out);
+            long copied = 0;
+            while(copied < this.movesSize) {
+                copied += this.moves.transferTo(copied, this.movesSize - copied, out);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.moves.close();
+        } finally {
+            Files.deleteIfExists(this.movesFile);
+        }
+    }
+
+    //returns 1 or 2 for the player who completed a line, NO_WINNER otherwise
+    private int playMoves(GameRecord record) {
+        if(this.board == null || this.board.getCellsInRow() != record.cellsInRow() || this.board.getWinLength() != record.winLength()) {
+            this.board = new BitBoard(record.cellsInRow(), record.winLength());
+        } else {
+            this.board.clear();
+        }
+        Symbol symbol = record.player1().symbol();
+        int[] moves = record.moves();
+        for(int i = 0; i < moves.length; i++) {
+            if(this.board.place(moves[i], symbol)) return i % 2 == 0 ? 1 : 2;
+            symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+        }
+        return GameArchive.NO_WINNER;
+    }
+
+    private int playerId(String name) {
+        Integer id = this.playerIds.get(name);
+        if(id == null) {
+            if(name.getBytes(StandardCharsets.UTF_8).length > GameLogWriter.MAX_NAME_BYTES) throw new GameNotLoggableException("The name of " + name + " is too long to be archived!");
+            id = this.playerNames.size();
+            this.playerIds.put(name, id);
+            this.playerNames.add(name);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(Integer.MAX_VALUE, this.info.length * 2L);
+        this.player1 = Arrays.copyOf(this.player1, capacity);
+        this.player2 = Arrays.copyOf(this.player2, capacity);
+        this.info = Arrays.copyOf(this.info, capacity);
+        this.movesOffsets = Arrays.copyOf(this.movesOffsets, capacity);
+    }
+
+    private void flushMoves() throws IOException {
+        this.writeBuffer(this.moves);
+    }
+
+    private void ensure(FileChannel out, int bytes) throws IOException {
+        if(this.buffer.remaining() < bytes) this.writeBuffer(out);
+    }
+
+    private void writeBuffer(FileChannel out) throws IOException {
+        this.buffer.flip();
+        while(this.buffer.hasRemaining()) {
+            out.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+public class GameLogFormatException extends RuntimeException {
+    public GameLogFormatException(String message) {
+        super(message);
+    }
+}
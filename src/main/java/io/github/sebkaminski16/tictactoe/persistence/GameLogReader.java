@@ -0,0 +1,156 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//streams the records of a log written by GameLogWriter, one buffer at a time, so the size of the file does not matter
+public class GameLogReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] nameBytes = new byte[GameLogWriter.MAX_NAME_BYTES];
+    //consecutive games of the same players share the Player objects
+    private Player lastPlayer1 = null;
+    private Player lastPlayer2 = null;
+    private long gamesRead = 0;
+
+    public GameLogReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer.limit(0);
+        if(!this.fill(GameLogWriter.HEADER_SIZE) || this.buffer.getInt() != GameLogWriter.MAGIC || this.buffer.get() != GameLogWriter.VERSION) {
+            this.channel.close();
+            throw new GameLogFormatException("Not a game log file or unsupported version!");
+        }
+        this.buffer.position(GameLogWriter.HEADER_SIZE);
+    }
+
+    public long getGamesRead() {
+        return this.gamesRead;
+    }
+
+    //the next game of the log, null at its end
+    public GameRecord next() throws IOException {
+        if(!this.fill(4)) {
+            if(this.buffer.hasRemaining()) throw new GameLogFormatException("The game log is truncated!");
+            return null;
+        }
+        int cellsInRow = this.buffer.get() & 0xFF;
+        int winLength = this.buffer.get() & 0xFF;
+        int flags = this.buffer.get() & 0xFF;
+        GameMode gameMode = (flags & GameLogWriter.FLAG_COMPUTER_VS_HUMAN) != 0 ? GameMode.COMPUTER_VS_HUMAN : GameMode.HUMAN_VS_HUMAN;
+        Symbol player1symbol = (flags & GameLogWriter.FLAG_PLAYER1_PLAYS_X) != 0 ? Symbol.X : Symbol.O;
+        Symbol player2symbol = player1symbol == Symbol.X ? Symbol.O : Symbol.X;
+
+        String name1 = this.readName(this.buffer.get() & 0xFF);
+        if(this.lastPlayer1 == null || !this.lastPlayer1.name().equals(name1) || this.lastPlayer1.symbol() != player1symbol) {
+            this.lastPlayer1 = new Player(name1, player1symbol);
+        }
+        this.expect(1);
+        String name2 = this.readName(this.buffer.get() & 0xFF);
+        if(this.lastPlayer2 == null || !this.lastPlayer2.name().equals(name2) || this.lastPlayer2.symbol() != player2symbol) {
+            this.lastPlayer2 = new Player(name2, player2symbol);
+        }
+
+        this.expect(2);
+        int[] moves = new int[this.buffer.getShort() & 0xFFFF];
+        boolean oneByte = cellsInRow * cellsInRow <= GameLogWriter.MAX_ONE_BYTE_CELLS;
+        this.expect(moves.length * (oneByte ? 1 : 2));
+        for(int i = 0; i < moves.length; i++) {
+            moves[i] = oneByte ? this.buffer.get() & 0xFF : this.buffer.getShort() & 0xFFFF;
+        }
+        this.gamesRead++;
+        return new GameRecord(cellsInRow, winLength, gameMode, this.lastPlayer1, this.lastPlayer2, moves);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    //REPLAY
+
+    public static Game replay(GameRecord record) {
+        Game game = new Game();
+        replay(record, game);
+        return game;
+    }
+
+    //reconfigures the game with the logged rules and players and plays the logged moves again - the computer's
+    //moves are taken from the log as well, the game's own computer strategy is restored afterwards
+    public static void replay(GameRecord record, Game game) {
+        if(record.gameMode() == GameMode.COMPUTER_VS_HUMAN) {
+            game.configure(record.cellsInRow(), record.winLength(), record.player1().symbol(), record.player1().name());
+        } else {
+            game.configure(record.cellsInRow(), record.winLength(), record.player1().symbol(), record.player1().name(), record.player2().name());
+        }
+        LoggedMoves loggedMoves = new LoggedMoves(record.moves());
+        MoveStrategy computerStrategy = game.getComputerStrategy();
+        game.setComputerStrategy(loggedMoves);
+        try {
+            while(loggedMoves.hasNext()) {
+                game.insertSymbolIntoCellN(loggedMoves.next());
+            }
+        } finally {
+            game.setComputerStrategy(computerStrategy);
+        }
+    }
+
+    //plays the computer's side of a logged game
+    private static class LoggedMoves implements MoveStrategy {
+        private final int[] moves;
+        private int next = 0;
+
+        LoggedMoves(int[] moves) {
+            this.moves = moves;
+        }
+
+        boolean hasNext() {
+            return this.next < this.moves.length;
+        }
+
+        int next() {
+            if(!this.hasNext()) throw new GameLogFormatException("The logged game ends before the computer's move!");
+            return this.moves[this.next++];
+        }
+
+        @Override
+        public int chooseCell(BitBoard board, Symbol symbol) {
+            return this.next();
+        }
+    }
+
+    //BUFFERING
+
+    private String readName(int length) throws IOException {
+        this.expect(length);
+        this.buffer.get(this.nameBytes, 0, length);
+        return new String(this.nameBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void expect(int bytes) throws IOException {
+        if(!this.fill(bytes)) throw new GameLogFormatException("The game log is truncated!");
+    }
+
+    //makes at least the given number of bytes available, false if the file ends before that
+    private boolean fill(int bytes) throws IOException {
+        if(this.buffer.remaining() >= bytes) return true;
+        this.buffer.compact();
+        while(this.buffer.position() < bytes) {
+            if(this.channel.read(this.buffer) < 0) break;
+        }
+        this.buffer.flip();
+        return this.buffer.remaining() >= bytes;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//measures how many finished games per second the log takes and gives back: a set of random games is logged over
+//and over, then the whole file is streamed back and every game is replayed - at the end the log is turned into
+//an archive and queried
+public class GameLogReport {
+    private static final int DISTINCT_GAMES = 1024;
+    private static final long DEFAULT_GAMES = 5_000_000;
+    //the same games and so the same files on every run
+    private static final long SEED = 42;
+
+    //GameLogReport [file] [games]
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "games.log");
+        long games = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_GAMES;
+        Files.deleteIfExists(file);
+
+        GameRecord[] records = new GameRecord[DISTINCT_GAMES];
+        Game game = new Game(SEED);
+        RandomMoveStrategy strategy = new RandomMoveStrategy(game.getRandom());
+        for(int i = 0; i < records.length; i++) {
+            game.configure(GameBoardSize.SMALL, "Player 1", "Player 2");
+            while(game.getGameStatus() == GameStatus.UNSETTLED) {
+                game.insertSymbolChosenBy(strategy);
+            }
+            records[i] = GameRecord.of(game);
+        }
+
+        long start = System.nanoTime();
+        try(GameLogWriter writer = new GameLogWriter(file)) {
+            for(long i = 0; i < games; i++) {
+                writer.append(records[(int) (i % DISTINCT_GAMES)]);
+            }
+            writer.sync();
+        }
+        double writeSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("wrote %d games (%d MB) in %.2f s: %.0f games/sec%n", games, Files.size(file) >> 20, writeSeconds, games / writeSeconds);
+
+        start = System.nanoTime();
+        long read = 0;
+        try(GameLogReader reader = new GameLogReader(file)) {
+            GameRecord record;
+            while((record = reader.next()) != null) {
+                GameLogReader.replay(record, game);
+                read++;
+            }
+        }
+        double readSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("read and replayed %d games in %.2f s: %.0f games/sec%n", read, readSeconds, read / readSeconds);
+
+        Path archiveFile = Path.of(file + ".archive");
+        start = System.nanoTime();
+        GameArchiveBuilder.fromLog(file, archiveFile);
+        double buildSeconds = (System.nanoTime() - start) / 1e9;
+        GameArchive archive = GameArchive.open(archiveFile);
+        start = System.nanoTime();
+        int ties = GameArchive.intersect(archive.gamesOnBoard(3), archive.gamesEndingIn(GameStatus.TIE)).length;
+        int wins = archive.gamesWonBy("Player 1").remaining();
+        double querySeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("archived in %.2f s (%d MB), queried in %.1f ms: %d ties on 3x3, %d games won by Player 1%n",
+                buildSeconds, Files.size(archiveFile) >> 20, querySeconds * 1e3, ties, wins);
+        Files.delete(archiveFile);
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//append-only binary log of games, many games are collected in one direct buffer and written with a single call
+//file: 8 byte header - magic, version, 3 reserved bytes - followed by the records, big endian:
+//  byte cells in row, byte win length, byte flags (1 = computer vs human, 2 = player 1 plays X),
+//  byte length + UTF-8 name of player 1, byte length + UTF-8 name of player 2,
+//  short number of moves, then one unsigned byte per move - two bytes on boards with more than 256 cells
+//a 3x3 game between two short names takes about 25 bytes
+public class GameLogWriter implements AutoCloseable {
+    public static final int MAGIC = 0x5454544C;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    static final int FLAG_COMPUTER_VS_HUMAN = 1;
+    static final int FLAG_PLAYER1_PLAYS_X = 2;
+    static final int MAX_NAME_BYTES = 255;
+    static final int MAX_ONE_BYTE_CELLS = 256;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    //pooled games keep their Player objects, so the names are usually encoded once
+    private Player lastPlayer1 = null;
+    private Player lastPlayer2 = null;
+    private byte[] lastName1 = null;
+    private byte[] lastName2 = null;
+    private long gamesWritten = 0;
+
+    //creates the file or appends to an existing log
+    public GameLogWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if(this.channel.size() == 0) {
+            this.buffer.putInt(MAGIC).put(VERSION).put((byte) 0).putShort((short) 0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            this.channel.read(header, 0);
+            if(header.position() < HEADER_SIZE || header.getInt(0) != MAGIC || header.get(4) != VERSION) {
+                this.channel.close();
+                throw new GameLogFormatException("Not a game log file or unsupported version!");
+            }
+        }
+        this.channel.position(this.channel.size());
+    }
+
+    public long getGamesWritten() {
+        return this.gamesWritten;
+    }
+
+    //logs the moves played so far, usually called once the game has finished
+    public void append(Game game) throws IOException {
+        if(!game.isConfigured()) throw new GameNotLoggableException("The game is not configured! Cannot log it!");
+        int moveCount = game.getMoveCount();
+        this.writeHeader(game.getCellsInRow(), game.getWinLength(), game.getGameMode(),
+                game.getPlayers().get(0), game.getPlayers().get(1), moveCount);
+        boolean oneByte = game.getCellsInRow() * game.getCellsInRow() <= MAX_ONE_BYTE_CELLS;
+        for(int i = 0; i < moveCount; i++) {
+            this.writeMove(game.getMove(i), oneByte);
+        }
+        this.gamesWritten++;
+    }
+
+    public void append(GameRecord record) throws IOException {
+        this.writeHeader(record.cellsInRow(), record.winLength(), record.gameMode(), record.player1(), record.player2(), record.moves().length);
+        boolean oneByte = record.cellsInRow() * record.cellsInRow() <= MAX_ONE_BYTE_CELLS;
+        for(int move : record.moves()) {
+            this.writeMove(move, oneByte);
+        }
+        this.gamesWritten++;
+    }
+
+    //hands the buffered games to the operating system
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while(this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    //flushes and waits until the games are on the disk
+    public void sync() throws IOException {
+        this.flush();
+        this.channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private void writeHeader(int cellsInRow, int winLength, GameMode gameMode, Player player1, Player player2, int moveCount) throws IOException {
+        if(player1 != this.lastPlayer1) {
+            this.lastName1 = encodeName(player1);
+            this.lastPlayer1 = player1;
+        }
+        if(player2 != this.lastPlayer2) {
+            this.lastName2 = encodeName(player2);
+            this.lastPlayer2 = player2;
+        }
+        int maxMoveBytes = moveCount * 2;
+        if(this.buffer.remaining() < 7 + this.lastName1.length + this.lastName2.length + maxMoveBytes) this.flush();
+
+        int flags = (gameMode == GameMode.COMPUTER_VS_HUMAN ? FLAG_COMPUTER_VS_HUMAN : 0)
+                | (player1.symbol() == Symbol.X ? FLAG_PLAYER1_PLAYS_X : 0);
+        this.buffer.put((byte) cellsInRow).put((byte) winLength).put((byte) flags);
+        this.buffer.put((byte) this.lastName1.length).put(this.lastName1);
+        this.buffer.put((byte) this.lastName2.length).put(this.lastName2);
+        this.buffer.putShort((short) moveCount);
+    }
+
+    private void writeMove(int cell, boolean oneByte) {
+        if(oneByte) this.buffer.put((byte) cell);
+        else this.buffer.putShort((short) cell);
+    }
+
+    private static byte[] encodeName(Player player) {
+        byte[] name = player.name().getBytes(StandardCharsets.UTF_8);
+        if(name.length > MAX_NAME_BYTES) throw new GameNotLoggableException("The name of " + player.name() + " is too long to be logged!");
+        return name;
+    }
+}
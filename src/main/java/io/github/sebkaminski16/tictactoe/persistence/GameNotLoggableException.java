@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+public class GameNotLoggableException extends RuntimeException {
+    public GameNotLoggableException(String message) {
+        super(message);
+    }
+}
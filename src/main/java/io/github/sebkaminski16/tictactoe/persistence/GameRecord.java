@@ -0,0 +1,18 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+
+//one logged game: the rules, the players and the cells in the order they were played
+public record GameRecord(int cellsInRow, int winLength, GameMode gameMode, Player player1, Player player2, int[] moves) {
+    public static GameRecord of(Game game) {
+        if(!game.isConfigured()) throw new GameNotLoggableException("The game is not configured! Cannot log it!");
+        int[] moves = new int[game.getMoveCount()];
+        for(int i = 0; i < moves.length; i++) {
+            moves[i] = game.getMove(i);
+        }
+        return new GameRecord(game.getCellsInRow(), game.getWinLength(), game.getGameMode(),
+                game.getPlayers().get(0), game.getPlayers().get(1), moves);
+    }
+}
@@ -1,50 +1,110 @@
 package io.github.sebkaminski16.tictactoe.presentation.consolescreen;
 
+import io.github.sebkaminski16.tictactoe.logic.Game;
 import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameListener;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
 import io.github.sebkaminski16.tictactoe.logic.Player;
 import io.github.sebkaminski16.tictactoe.logic.Symbol;
 import io.github.sebkaminski16.tictactoe.presentation.keyboardinput.KeyboardInput;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
-public class GameScreen {
+//everything a method shows is built into one reusable frame and handed to the output with a single write
+//as a listener of the game the screen keeps its own copy of the board, one cell per move, to draw it from
+public class GameScreen implements GameListener {
+    //cursor to the top left corner, then clear the screen
+    private static final String ANSI_REDRAW = "\u001B[H\u001B[2J";
+
     private final KeyboardInput keyboard;
+    private final OutputStream output;
+    private final boolean ansiRedraw;
+    private final StringBuilder frame = new StringBuilder(256);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer bytes = ByteBuffer.allocate(256);
+    //the legend only depends on the size of the board
+    private int legendCellCount = -1;
+    private String legend = null;
+    private char[] board = new char[0];
 
     public GameScreen(KeyboardInput keyboardInput) {
+        this(keyboardInput, System.out, false);
+    }
+
+    //with ansiRedraw every game board is drawn over the previous one instead of below it
+    public GameScreen(KeyboardInput keyboardInput, OutputStream output, boolean ansiRedraw) {
         this.keyboard = keyboardInput;
+        this.output = output;
+        this.ansiRedraw = ansiRedraw;
     }
 
     public void showFramedMessage(String symbol, String message) {
         String frame = symbol.repeat(message.length() + 4);
-        String messageFrame = symbol + " " + message + " " + symbol;
 
-        System.out.println();
+        this.frame.setLength(0);
+        this.frame.append('\n');
+        this.frame.append(frame).append('\n');
+        this.frame.append(symbol).append(' ').append(message).append(' ').append(symbol).append('\n');
+        this.frame.append(frame).append('\n');
+        this.frame.append('\n');
+        this.emit();
+    }
 
-        System.out.println(frame);
-        System.out.println(messageFrame);
-        System.out.print(frame);
+    private void print(String text) {
+        this.frame.setLength(0);
+        this.frame.append(text);
+        this.emit();
+    }
 
-        System.out.println();
-        System.out.println();
+    private void println(String text) {
+        this.frame.setLength(0);
+        this.frame.append(text).append('\n');
+        this.emit();
+    }
+
+    //encodes the frame into the reusable buffer and writes it out in one go
+    private void emit() {
+        this.bytes.clear();
+        this.encoder.reset();
+        CharBuffer chars = CharBuffer.wrap(this.frame);
+        while(this.encoder.encode(chars, this.bytes, true).isOverflow()) {
+            ByteBuffer larger = ByteBuffer.allocate(this.bytes.capacity() * 2);
+            this.bytes.flip();
+            larger.put(this.bytes);
+            this.bytes = larger;
+        }
+        this.encoder.flush(this.bytes);
+        try {
+            this.output.write(this.bytes.array(), 0, this.bytes.position());
+            this.output.flush();
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public int chooseGameMode() {
-        System.out.println("Please select game mode");
-        System.out.println("1. Human vs Human");
-        System.out.println("2. Computer vs Human");
+        this.println("Please select game mode\n1. Human vs Human\n2. Computer vs Human");
         int gameMode = 0;
         while (gameMode != 1 && gameMode != 2) {
             try {
-                System.out.print("Mode: ");
+                this.print("Mode: ");
                 gameMode = this.keyboard.readIntegerValue();
                 if (gameMode != 1 && gameMode != 2) {
-                    System.out.println("Mode needs to be 1 or 2");
+                    this.println("Mode needs to be 1 or 2");
                 }
             } catch (Exception e) {
-                System.out.println(e.getMessage());
+                this.println(e.getMessage());
             }
         }
-        System.out.println();
+        this.println("");
         return gameMode;
     }
 
@@ -52,8 +112,7 @@ public class GameScreen {
         GameBoardSize gameBoardSize = null;
         while(gameBoardSize == null) {
             try {
-                System.out.println("Please choose the size of the game board");
-                System.out.println("1. Small (3x3), 2. Medium (4x4), 3. Large (5x5)");
+                this.println("Please choose the size of the game board\n1. Small (3x3), 2. Medium (4x4), 3. Large (5x5)");
                 int decision = this.keyboard.readIntegerValue();
                 gameBoardSize = switch (decision) {
                     case 1 -> GameBoardSize.SMALL;
@@ -62,10 +121,10 @@ public class GameScreen {
                     default -> null;
                 };
             } catch (Exception e) {
-                System.out.print(e.getMessage());
+                this.print(e.getMessage());
             }
         }
-        System.out.println();
+        this.println("");
         return gameBoardSize;
     }
 
@@ -77,79 +136,102 @@ public class GameScreen {
             while ((player1Name == null || player2Name == null)) {
                 try {
                     if (player1Name == null) {
-                        System.out.print("First player name: ");
+                        this.print("First player name: ");
                         player1Name = this.keyboard.readStringValue();
                     }
                     if (player2Name == null) {
-                        System.out.print("Second player name: ");
+                        this.print("Second player name: ");
                         player2Name = this.keyboard.readStringValue();
                     }
                 } catch (Exception e) {
-                    System.out.println(e.getMessage());
+                    this.println(e.getMessage());
                 }
             }
         } else {
             while (player1Name == null) {
                 try {
-                    System.out.print("First player name: ");
+                    this.print("First player name: ");
                     player1Name = this.keyboard.readStringValue();
                 } catch (Exception e) {
-                    System.out.println(e.getMessage());
+                    this.println(e.getMessage());
                 }
             }
         }
-        System.out.println();
+        this.println("");
         return new String[]{player1Name, player2Name};
     }
 
     public void showError(String errorMessage) {
-        System.out.println();
-        System.out.println("!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!");
-        System.out.println(errorMessage);
-        System.out.println("!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!");
-        System.out.println();
+        this.println("\n!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\n" + errorMessage + "\n!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\n");
+    }
+
+    @Override
+    public void gameStarted(Game game) {
+        int cellCount = game.getCellsInRow() * game.getCellsInRow();
+        if(this.board.length != cellCount) this.board = new char[cellCount];
+        Arrays.fill(this.board, '_');
+    }
+
+    @Override
+    public void movePlayed(int moveIndex, int cell, Symbol symbol, GameStatus status, Player winner) {
+        this.board[cell] = symbol == Symbol.X ? 'X' : 'O';
     }
 
     public void showGameBoard(List<Symbol> gameBoard) {
-        int gameBoardSize = gameBoard.size();
+        if(this.board.length != gameBoard.size()) this.board = new char[gameBoard.size()];
+        for(int cell = 0; cell < this.board.length; cell++) {
+            Symbol symbol = gameBoard.get(cell);
+            this.board[cell] = symbol == null ? '_' : symbol == Symbol.X ? 'X' : 'O';
+        }
+        this.showGameBoard();
+    }
+
+    //the board as the moves of the game this screen listens to left it
+    public void showGameBoard() {
+        int gameBoardSize = this.board.length;
         int cellsInRow = (int) Math.sqrt(gameBoardSize);
 
-        System.out.println("LEGEND");
+        this.frame.setLength(0);
+        if(this.ansiRedraw) this.frame.append(ANSI_REDRAW);
+        this.frame.append(this.legend(gameBoardSize, cellsInRow));
+
+        this.frame.append("GAME BOARD\n");
         for(int i = 0; i < gameBoardSize; i+= cellsInRow) {
             for(int j = i; j < i + cellsInRow; j++) {
-                System.out.print(j + " ");
+                this.frame.append(this.board[j]).append(' ');
             }
-            System.out.println();
+            this.frame.append('\n');
         }
-        System.out.println();
+        this.frame.append('\n');
+        this.emit();
+    }
 
-        System.out.println("GAME BOARD");
-        for(int i = 0; i < gameBoardSize; i+= cellsInRow) {
-            for(int j = i; j < i + cellsInRow; j++) {
-                String cell = gameBoard.get(j) + "";
-                cell = cell.equals("null") ? "_ " : cell + " ";
-                System.out.print(cell);
+    private String legend(int gameBoardSize, int cellsInRow) {
+        if(gameBoardSize != this.legendCellCount) {
+            StringBuilder legend = new StringBuilder("LEGEND\n");
+            for(int i = 0; i < gameBoardSize; i+= cellsInRow) {
+                for(int j = i; j < i + cellsInRow; j++) {
+                    legend.append(j).append(' ');
+                }
+                legend.append('\n');
             }
-            System.out.println();
+            legend.append('\n');
+            this.legend = legend.toString();
+            this.legendCellCount = gameBoardSize;
         }
-        System.out.println();
+        return this.legend;
     }
 
     public void showPlayerInfo(List<Player> players) {
-        String player1Name = players.get(0).name();
-        String player2Name = players.get(1).name();
-        Symbol player1Symbol = players.get(0).symbol();
-        Symbol player2Symbol = players.get(1).symbol();
-
-        System.out.println("PLAYERS");
-        System.out.printf("%s (%s), %s (%s)", player1Name, player1Symbol, player2Name, player2Symbol);
-        System.out.println();
+        this.frame.setLength(0);
+        this.frame.append("PLAYERS\n");
+        this.frame.append(players.get(0).name()).append(" (").append(players.get(0).symbol()).append("), ");
+        this.frame.append(players.get(1).name()).append(" (").append(players.get(1).symbol()).append(")\n");
+        this.emit();
     }
 
     public int chooseCell(Symbol symbol) {
-        System.out.println();
-        System.out.printf("Please choose the cell number in which you want to put your symbol (%s)\n", symbol.name());
-        System.out.print("Cell: ");
+        this.print("\nPlease choose the cell number in which you want to put your symbol (" + symbol.name() + ")\nCell: ");
         return this.keyboard.readIntegerValue();
     }
 }
@@ -1,39 +1,118 @@
 package io.github.sebkaminski16.tictactoe.presentation.keyboardinput;
 
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+//one long-lived buffer over the input, so whole games piped in at once are read line by line and nothing is lost
+//between calls - numbers are parsed straight from the bytes of the line
 public class KeyboardInput {
+    private static final int BUFFER_SIZE = 8192;
+
+    //null - follow System.in, also when it gets replaced
+    private final InputStream fixedInput;
+    private InputStream input = null;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private byte[] line = new byte[128];
+    private int lineLength = 0;
+    private int[] values = new int[16];
+
+    public KeyboardInput() {
+        this.fixedInput = null;
+    }
+
+    public KeyboardInput(InputStream input) {
+        this.fixedInput = input;
+    }
+
     //READING INPUT
 
-    private void checkIfInputIsEmpty(String input) {
-        if(input.isEmpty()) throw new EmptyInputException("Your input is incorrect! You provided an empty string!");
+    private void checkIfInputIsEmpty(int length) {
+        if(length == 0) throw new EmptyInputException("Your input is incorrect! You provided an empty string!");
     }
 
     public String readStringValue() {
-        Scanner scanner = new Scanner(System.in);
-        String value = "";
+        this.readLine();
+        this.checkIfInputIsEmpty(this.lineLength);
+        return new String(this.line, 0, this.lineLength, StandardCharsets.UTF_8);
+    }
+
+    public int readIntegerValue() {
+        this.readLine();
+        this.checkIfInputIsEmpty(this.lineLength);
+        return this.parseInteger(0, this.lineLength);
+    }
 
-        if(scanner.hasNext()) {
-            value = scanner.nextLine();
+    //scripted play: a whole move sequence on one line, separated by spaces or commas
+    public int[] readIntegerValues() {
+        this.readLine();
+        int count = 0;
+        int start = 0;
+        while(start < this.lineLength) {
+            while(start < this.lineLength && isSeparator(this.line[start])) start++;
+            if(start == this.lineLength) break;
+            int end = start;
+            while(end < this.lineLength && !isSeparator(this.line[end])) end++;
+            if(count == this.values.length) this.values = Arrays.copyOf(this.values, count * 2);
+            this.values[count++] = this.parseInteger(start, end);
+            start = end;
         }
+        this.checkIfInputIsEmpty(count);
+        return Arrays.copyOf(this.values, count);
+    }
 
-        this.checkIfInputIsEmpty(value);
-        return value;
+    private static boolean isSeparator(byte character) {
+        return character == ' ' || character == ',' || character == '\t';
     }
 
-    public int readIntegerValue() {
-        Scanner scanner = new Scanner(System.in);
-        String value = "";
+    private int parseInteger(int from, int to) {
+        boolean negative = this.line[from] == '-';
+        int position = negative || this.line[from] == '+' ? from + 1 : from;
+        if(position == to) throw new IncorrectInputException("Value is not an integer!");
+        //accumulated as a negative number, which also covers Integer.MIN_VALUE
+        int value = 0;
+        for(; position < to; position++) {
+            int digit = this.line[position] - '0';
+            if(digit < 0 || digit > 9 || value < (Integer.MIN_VALUE + digit) / 10) throw new IncorrectInputException("Value is not an integer!");
+            value = value * 10 - digit;
+        }
+        if(!negative && value == Integer.MIN_VALUE) throw new IncorrectInputException("Value is not an integer!");
+        return negative ? value : -value;
+    }
 
-        if(scanner.hasNext()) {
-            value = scanner.nextLine();
+    //the next line without its line break into this.line, an empty line at the end of the input
+    private void readLine() {
+        InputStream source = this.fixedInput != null ? this.fixedInput : System.in;
+        if(source != this.input) {
+            //whatever was buffered belonged to the previous stream
+            this.input = source;
+            this.bufferPosition = 0;
+            this.bufferLimit = 0;
         }
+        this.lineLength = 0;
+        while(true) {
+            if(this.bufferPosition == this.bufferLimit && !this.fillBuffer()) break;
+            byte next = this.buffer[this.bufferPosition++];
+            if(next == '\n') break;
+            if(this.lineLength == this.line.length) this.line = Arrays.copyOf(this.line, this.lineLength * 2);
+            this.line[this.lineLength++] = next;
+        }
+        if(this.lineLength > 0 && this.line[this.lineLength - 1] == '\r') this.lineLength--;
+    }
 
-        this.checkIfInputIsEmpty(value);
+    private boolean fillBuffer() {
         try {
-            return Integer.parseInt(value);
-        } catch (Exception e) {
-            throw new IncorrectInputException("Value is not an integer!");
+            int read = this.input.read(this.buffer, 0, this.buffer.length);
+            if(read <= 0) return false;
+            this.bufferPosition = 0;
+            this.bufferLimit = read;
+            return true;
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
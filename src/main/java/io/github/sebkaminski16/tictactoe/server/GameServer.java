@@ -0,0 +1,268 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+import io.github.sebkaminski16.tictactoe.logic.ConcurrentGame;
+import io.github.sebkaminski16.tictactoe.logic.EngineMetrics;
+import io.github.sebkaminski16.tictactoe.logic.GameAlreadyFinishedException;
+import io.github.sebkaminski16.tictactoe.logic.GameMode;
+import io.github.sebkaminski16.tictactoe.logic.GameSnapshot;
+import io.github.sebkaminski16.tictactoe.logic.LatencyHistogram;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+//hosts any number of games over plain TCP, one virtual thread per connection blocking on its socket
+//the protocol is line based, one reply line per command line:
+//  NEW <cells in row> <win length> <player 1> [player 2]  ->  GAME <id> <symbol of player 1>
+//  JOIN <id>                                              ->  GAME <id> <symbol of player 2>
+//  MOVE <id> <cell> [symbol]                              ->  STATE <status> <symbol to move|-> <winner symbol|-> <cells>
+//  STATE <id>                                             ->  STATE ...
+//  END <id>                                               ->  OK, only from the connection that created the game
+//  STATS                                                  ->  STATS sessions=.. connections=.. moves=.. movesPerSecond=.. p99MoveMicros=..
+//  QUIT                                                   ->  BYE
+//movesPerSecond is the rate of the last few seconds, p99MoveMicros covers all moves since the start
+//errors are reported as ERROR <message> and leave the connection open
+//a game with a single player name is played against the computer, which answers within the same MOVE
+//a connection only moves for its own players: the one that created a game plays player 1, and player 2 as well until
+//another connection JOINs the game and takes player 2 over - a MOVE without a symbol is for the player to move
+//a game ends when the connection that created it closes
+//games are ConcurrentGames, so moves and reads on one game need no lock
+public class GameServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+    private static final int DEFAULT_PORT = 7777;
+    private static final long REPORT_INTERVAL_MILLIS = 10_000;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    //games whose player 2 was taken over by a JOIN
+    private final Set<Long> joinedGames = ConcurrentHashMap.newKeySet();
+    private final SessionRegistry sessions = new SessionRegistry();
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final LongAdder moves = new LongAdder();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final long startNanos = System.nanoTime();
+    private final MoveRate moveRate = new MoveRate(this.startNanos);
+    private volatile boolean closed = false;
+
+    //port 0 picks a free port, see getPort()
+    public GameServer(int port) throws IOException {
+        this(port, InetAddress.getLoopbackAddress());
+    }
+
+    public GameServer(int port, InetAddress address) throws IOException {
+        this.serverSocket = new ServerSocket(port, BACKLOG, address);
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    public SessionRegistry getSessions() {
+        return this.sessions;
+    }
+
+    public ServerStats getStats() {
+        long now = System.nanoTime();
+        return new ServerStats(this.sessions.size(), this.connections.get(), this.moves.sum(), this.moveRate.perSecond(now),
+                now - this.startNanos, this.moveLatency.getValueAtPercentile(99));
+    }
+
+    public GameServer start() {
+        Thread.ofVirtual().name("game-server-acceptor").start(this::acceptConnections);
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.serverSocket.close();
+        for(Socket socket : this.openSockets) {
+            socket.close();
+        }
+        this.connectionThreads.shutdown();
+    }
+
+    private void acceptConnections() {
+        while(!this.closed) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                this.openSockets.add(socket);
+                this.connectionThreads.execute(() -> this.serve(socket));
+            } catch(IOException e) {
+                if(!this.closed) System.err.println("Cannot accept a connection: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        this.connections.incrementAndGet();
+        List<Long> createdGames = new ArrayList<>();
+        Set<Long> ownJoinedGames = new HashSet<>();
+        try(socket;
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                String[] tokens = line.trim().split("\\s+");
+                boolean quit = tokens[0].equalsIgnoreCase("QUIT");
+                writer.write(quit ? "BYE" : this.handle(tokens, createdGames, ownJoinedGames));
+                writer.newLine();
+                writer.flush();
+                if(quit) break;
+            }
+        } catch(IOException e) {
+            //the client went away, nothing to answer
+        } finally {
+            for(long id : createdGames) {
+                this.sessions.remove(id);
+                this.joinedGames.remove(id);
+            }
+            this.openSockets.remove(socket);
+            this.connections.decrementAndGet();
+        }
+    }
+
+    private String handle(String[] tokens, List<Long> createdGames, Set<Long> ownJoinedGames) {
+        try {
+            return switch(tokens[0].toUpperCase()) {
+                case "NEW" -> this.newGame(tokens, createdGames);
+                case "JOIN" -> this.join(tokens, createdGames, ownJoinedGames);
+                case "MOVE" -> this.move(tokens, createdGames, ownJoinedGames);
+                case "STATE" -> {
+                    expectArguments(tokens, 1);
+                    yield describe(this.sessions.get(parseNumber(tokens[1])).getSnapshot());
+                }
+                case "END" -> {
+                    expectArguments(tokens, 1);
+                    long id = parseNumber(tokens[1]);
+                    if(!createdGames.contains(id)) throw new IncorrectCommandException("Game " + id + " was not created by this connection! Only its creator can end it!");
+                    if(!this.sessions.remove(id)) throw new UnknownGameException("There is no game with id " + id + "!");
+                    createdGames.remove(Long.valueOf(id));
+                    this.joinedGames.remove(id);
+                    yield "OK";
+                }
+                case "STATS" -> formatStats(this.getStats());
+                default -> throw new IncorrectCommandException("Unknown command: " + tokens[0]);
+            };
+        } catch(RuntimeException e) {
+            return "ERROR " + e.getMessage();
+        }
+    }
+
+    private String newGame(String[] tokens, List<Long> createdGames) {
+        if(tokens.length < 4 || tokens.length > 5) throw new IncorrectCommandException("Usage: NEW <cells in row> <win length> <player 1> [player 2]");
+        String[] playerNames = new String[tokens.length - 3];
+        System.arraycopy(tokens, 3, playerNames, 0, playerNames.length);
+        long id = this.sessions.create((int) parseNumber(tokens[1]), (int) parseNumber(tokens[2]), playerNames);
+        createdGames.add(id);
+        return "GAME " + id + " " + this.sessions.get(id).getPlayers().getFirst().symbol();
+    }
+
+    private String join(String[] tokens, List<Long> createdGames, Set<Long> ownJoinedGames) {
+        expectArguments(tokens, 1);
+        long id = parseNumber(tokens[1]);
+        ConcurrentGame game = this.sessions.get(id);
+        if(game.getGameMode() == GameMode.COMPUTER_VS_HUMAN) throw new IncorrectCommandException("Game " + id + " is played against the computer!");
+        if(createdGames.contains(id)) throw new IncorrectCommandException("Game " + id + " was created by this connection, it already plays both players!");
+        if(!this.joinedGames.add(id)) throw new IncorrectCommandException("Player 2 of game " + id + " was already taken!");
+        ownJoinedGames.add(id);
+        return "GAME " + id + " " + game.getPlayers().get(1).symbol();
+    }
+
+    private String move(String[] tokens, List<Long> createdGames, Set<Long> ownJoinedGames) {
+        if(tokens.length != 3 && tokens.length != 4) throw new IncorrectCommandException("Usage: MOVE <id> <cell> [symbol]");
+        long id = parseNumber(tokens[1]);
+        ConcurrentGame game = this.sessions.get(id);
+        int cell = (int) parseNumber(tokens[2]);
+        Symbol symbol;
+        if(tokens.length == 4) {
+            symbol = parseSymbol(tokens[3]);
+        } else {
+            Player toMove = game.getSnapshot().getCurrentlyPlayingPlayer();
+            if(toMove == null) throw new GameAlreadyFinishedException("The game has already finished! Cannot insert any more cells!");
+            symbol = toMove.symbol();
+        }
+        boolean created = createdGames.contains(id);
+        boolean ownsPlayer = symbol == game.getPlayers().getFirst().symbol()
+                ? created
+                : ownJoinedGames.contains(id) || created && !this.joinedGames.contains(id);
+        if(!ownsPlayer) throw new IncorrectCommandException("This connection does not play " + symbol + " in game " + id + "!");
+        long start = System.nanoTime();
+        GameSnapshot state = game.insertSymbolIntoCellN(symbol, cell);
+        long end = System.nanoTime();
+        this.moveLatency.record(end - start);
+        this.moves.increment();
+        this.moveRate.record(end);
+        return describe(state);
+    }
+
+    private static void expectArguments(String[] tokens, int arguments) {
+        if(tokens.length != arguments + 1) throw new IncorrectCommandException(tokens[0].toUpperCase() + " expects " + arguments + " argument(s)!");
+    }
+
+    private static long parseNumber(String token) {
+        try {
+            return Long.parseLong(token);
+        } catch(NumberFormatException e) {
+            throw new IncorrectCommandException("Expected a number but got: " + token);
+        }
+    }
+
+    private static Symbol parseSymbol(String token) {
+        if(token.equalsIgnoreCase("X")) return Symbol.X;
+        if(token.equalsIgnoreCase("O")) return Symbol.O;
+        throw new IncorrectCommandException("Expected X or O but got: " + token);
+    }
+
+    static String describe(GameSnapshot snapshot) {
+        StringBuilder builder = new StringBuilder(snapshot.getCellCount() + 32);
+        builder.append("STATE ").append(snapshot.getGameStatus()).append(' ');
+        Player toMove = snapshot.getCurrentlyPlayingPlayer();
+        builder.append(toMove == null ? "-" : toMove.symbol().toString()).append(' ');
+        Player winner = snapshot.getWinner();
+        builder.append(winner == null ? "-" : winner.symbol().toString()).append(' ');
+        for(int cell = 0; cell < snapshot.getCellCount(); cell++) {
+            Symbol symbol = snapshot.getSymbol(cell);
+            builder.append(symbol == null ? '.' : symbol.toString().charAt(0));
+        }
+        return builder.toString();
+    }
+
+    static String formatStats(ServerStats stats) {
+        return String.format("STATS sessions=%d connections=%d moves=%d movesPerSecond=%.0f p99MoveMicros=%.1f",
+                stats.sessions(), stats.connections(), stats.moves(), stats.movesPerSecond(), stats.p99MoveLatencyNanos() / 1e3);
+    }
+
+    //GameServer [port] - listens on every interface and prints the stats every 10 seconds
+    //the engine metrics are turned on and published over JMX
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        EngineMetrics.enable();
+        EngineMetrics.registerMBean();
+        try(GameServer server = new GameServer(port, null).start()) {
+            System.out.println("Listening on port " + server.getPort());
+            while(true) {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+                System.out.println(formatStats(server.getStats()));
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+public class IncorrectCommandException extends RuntimeException {
+    public IncorrectCommandException(String message) {
+        super(message);
+    }
+}
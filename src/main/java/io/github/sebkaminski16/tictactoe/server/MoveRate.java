@@ -0,0 +1,49 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//moves per second over the last few seconds, lock-free - a ring of one-second buckets, each holding
+//second << COUNT_BITS | count in one long, so a bucket is moved on to a new second and counted into with a single CAS
+final class MoveRate {
+    static final int WINDOW_SECONDS = 5;
+    private static final int BUCKETS = 8;
+    private static final int COUNT_BITS = 28;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long startNanos;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    MoveRate(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    void record(long nowNanos) {
+        long second = (nowNanos - this.startNanos) / 1_000_000_000L;
+        int index = (int) (second % BUCKETS);
+        while(true) {
+            long bucket = this.buckets.get(index);
+            long bucketSecond = bucket >>> COUNT_BITS;
+            //a move of a second the bucket has already left behind is not counted any more
+            if(bucketSecond > second) return;
+            long next;
+            if(bucketSecond < second) next = second << COUNT_BITS | 1;
+            else if((bucket & COUNT_MASK) == COUNT_MASK) return;
+            else next = bucket + 1;
+            if(this.buckets.compareAndSet(index, bucket, next)) return;
+        }
+    }
+
+    //the moves of the current second and the WINDOW_SECONDS before it, divided by the time they cover
+    double perSecond(long nowNanos) {
+        long elapsed = nowNanos - this.startNanos;
+        if(elapsed <= 0) return 0.0;
+        long second = elapsed / 1_000_000_000L;
+        long moves = 0;
+        for(long past = Math.max(0, second - WINDOW_SECONDS); past <= second; past++) {
+            long bucket = this.buckets.get((int) (past % BUCKETS));
+            if(bucket >>> COUNT_BITS == past) moves += bucket & COUNT_MASK;
+        }
+        double seconds = Math.min(elapsed, (WINDOW_SECONDS * 1_000_000_000L) + elapsed % 1_000_000_000L) / 1e9;
+        return moves / seconds;
+    }
+}
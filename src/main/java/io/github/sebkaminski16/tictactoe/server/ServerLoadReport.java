@@ -0,0 +1,91 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+//starts a server on a free loopback port and connects the given number of clients at once, every client on its own
+//virtual thread playing random games against the computer - prints what the server reports afterwards
+public class ServerLoadReport {
+    private static final int DEFAULT_CLIENTS = 10_000;
+    private static final int DEFAULT_GAMES_PER_CLIENT = 10;
+    private static final int DEFAULT_CELLS_IN_ROW = 3;
+
+    //plays the games one after the other over one connection and returns the number of moves sent
+    static long playRandomGames(int port, int games, int cellsInRow, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            long moves = 0;
+            for(int game = 0; game < games; game++) {
+                String id = request(reader, writer, "NEW " + cellsInRow + " " + cellsInRow + " Player").split(" ")[1];
+                String state = request(reader, writer, "STATE " + id);
+                while(state.startsWith("STATE UNSETTLED")) {
+                    String cells = state.substring(state.lastIndexOf(' ') + 1);
+                    int cell;
+                    do {
+                        cell = random.nextInt(cells.length());
+                    } while(cells.charAt(cell) != '.');
+                    state = request(reader, writer, "MOVE " + id + " " + cell);
+                    moves++;
+                }
+                request(reader, writer, "END " + id);
+            }
+            request(reader, writer, "QUIT");
+            return moves;
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String request(BufferedReader reader, BufferedWriter writer, String command) throws IOException {
+        writer.write(command);
+        writer.newLine();
+        writer.flush();
+        String reply = reader.readLine();
+        if(reply == null || reply.startsWith("ERROR")) throw new IOException("Unexpected reply to " + command + ": " + reply);
+        return reply;
+    }
+
+    //ServerLoadReport [clients] [games per client] [cells in row]
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES_PER_CLIENT;
+        int cellsInRow = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CELLS_IN_ROW;
+
+        try(GameServer server = new GameServer(0).start();
+            ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            List<Future<Long>> results = new ArrayList<>(clients);
+            for(int client = 0; client < clients; client++) {
+                long seed = client;
+                results.add(clientThreads.submit(() -> playRandomGames(server.getPort(), games, cellsInRow, seed)));
+            }
+            long moves = 0;
+            int peakConnections = 0;
+            for(Future<Long> result : results) {
+                peakConnections = Math.max(peakConnections, server.getStats().connections());
+                moves += result.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            ServerStats stats = server.getStats();
+            System.out.printf("%d clients x %d games on %dx%d: %d moves in %.2f s%n", clients, games, cellsInRow, cellsInRow, moves, seconds);
+            System.out.printf("peak connections seen %d, %.0f moves/sec, p99 move latency %.1f us%n",
+                    peakConnections, moves / seconds, stats.p99MoveLatencyNanos() / 1e3);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+//movesPerSecond - over the last few seconds, not the whole uptime, so it drops to 0 when the server goes idle
+public record ServerStats(int sessions, int connections, long moves, double movesPerSecond, long uptimeNanos, long p99MoveLatencyNanos) {
+}
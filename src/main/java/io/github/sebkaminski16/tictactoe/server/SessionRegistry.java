@@ -0,0 +1,33 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+import io.github.sebkaminski16.tictactoe.logic.ConcurrentGame;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+//every game hosted by the server, keyed by the id handed out to the clients
+public class SessionRegistry {
+    private final ConcurrentHashMap<Long, ConcurrentGame> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public long create(int cellsInRow, int winLength, String... playerNames) {
+        ConcurrentGame game = new ConcurrentGame(cellsInRow, winLength, playerNames);
+        long id = this.nextId.getAndIncrement();
+        this.games.put(id, game);
+        return id;
+    }
+
+    public ConcurrentGame get(long id) {
+        ConcurrentGame game = this.games.get(id);
+        if(game == null) throw new UnknownGameException("There is no game with id " + id + "!");
+        return game;
+    }
+
+    public boolean remove(long id) {
+        return this.games.remove(id) != null;
+    }
+
+    public int size() {
+        return this.games.size();
+    }
+}
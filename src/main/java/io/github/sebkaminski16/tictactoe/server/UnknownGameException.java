@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+public class UnknownGameException extends RuntimeException {
+    public UnknownGameException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+//logistic Elo model: a rating difference d gives an expected score of 1 / (1 + 10^(-d/400))
+public final class Elo {
+    //two-sided 95% of the normal distribution
+    public static final double Z_95 = 1.959964;
+    private static final double ELO_PER_NATURAL_UNIT = 400 / Math.log(10);
+    private static final int FIT_ITERATIONS = 1_000;
+    private static final double FIT_PRECISION = 1e-9;
+
+    private Elo() {
+    }
+
+    public static double expectedScore(double eloDifference) {
+        return 1 / (1 + Math.pow(10, -eloDifference / 400));
+    }
+
+    //infinite for a score of 0 or 1
+    public static double difference(double score) {
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    //ratings fitting the scores of a round robin by maximum likelihood, averaging 0
+    //games[i][j] - games between i and j, scores[i][j] - points i got in them
+    //every pair gets one virtual draw, so a strategy that wins everything still has a finite rating
+    //margins[i] - half-width of the 95% confidence interval of rating i, from the Fisher information of the fit
+    public static double[] fitRatings(long[][] games, double[][] scores, double[] margins) {
+        int players = games.length;
+        double[] ratings = new double[players];
+        for(int iteration = 0; iteration < FIT_ITERATIONS; iteration++) {
+            double largestStep = 0;
+            for(int i = 0; i < players; i++) {
+                double gradient = 0;
+                double information = 0;
+                for(int j = 0; j < players; j++) {
+                    if(i == j || games[i][j] == 0) continue;
+                    double expected = expectedScore(ratings[i] - ratings[j]);
+                    gradient += scores[i][j] + 0.5 - (games[i][j] + 1) * expected;
+                    information += (games[i][j] + 1) * expected * (1 - expected);
+                }
+                if(information == 0) continue;
+                double step = ELO_PER_NATURAL_UNIT * gradient / information;
+                ratings[i] += step;
+                largestStep = Math.max(largestStep, Math.abs(step));
+            }
+            if(largestStep < FIT_PRECISION) break;
+        }
+
+        double mean = 0;
+        for(double rating : ratings) {
+            mean += rating / players;
+        }
+        for(int i = 0; i < players; i++) {
+            ratings[i] -= mean;
+            double information = 0;
+            for(int j = 0; j < players; j++) {
+                if(i == j) continue;
+                double expected = expectedScore(ratings[i] - ratings[j]);
+                information += games[i][j] * expected * (1 - expected);
+            }
+            margins[i] = information == 0 ? Double.POSITIVE_INFINITY : Z_95 * ELO_PER_NATURAL_UNIT / Math.sqrt(information);
+        }
+        return ratings;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+public class IncorrectSimulationConfigurationException extends RuntimeException {
+    public IncorrectSimulationConfigurationException(String message) {
+        super(message);
+    }
+}
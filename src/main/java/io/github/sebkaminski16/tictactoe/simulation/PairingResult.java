@@ -0,0 +1,37 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+
+//games of one pair of strategies on one board size, counted from the view of the first one
+public record PairingResult(GameBoardSize size, String first, String second, long firstWins, long draws, long secondWins, SprtVerdict verdict) {
+    public long games() {
+        return this.firstWins + this.draws + this.secondWins;
+    }
+
+    public double score() {
+        return this.games() == 0 ? 0.5 : (this.firstWins + this.draws * 0.5) / this.games();
+    }
+
+    //how much stronger the first strategy is, a clean sweep counts as half a game lost
+    public double eloDifference() {
+        return Elo.difference(this.clamp(this.score()));
+    }
+
+    //half-width of the 95% confidence interval of eloDifference
+    public double eloMargin() {
+        long games = this.games();
+        if(games == 0) return Double.POSITIVE_INFINITY;
+        double score = this.score();
+        double variance = (this.firstWins * (1 - score) * (1 - score) + this.draws * (0.5 - score) * (0.5 - score)
+                + this.secondWins * score * score) / games;
+        double deviation = Math.sqrt(variance / games);
+        double upper = Elo.difference(this.clamp(score + Elo.Z_95 * deviation));
+        double lower = Elo.difference(this.clamp(score - Elo.Z_95 * deviation));
+        return (upper - lower) / 2;
+    }
+
+    private double clamp(double score) {
+        double halfGame = 0.5 / Math.max(this.games(), 1);
+        return Math.max(halfGame, Math.min(1 - halfGame, score));
+    }
+}
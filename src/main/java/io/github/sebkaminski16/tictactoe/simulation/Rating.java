@@ -0,0 +1,5 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+//elo - relative to the average of the tournament, margin - half-width of its 95% confidence interval
+public record Rating(String strategy, double elo, double margin) {
+}
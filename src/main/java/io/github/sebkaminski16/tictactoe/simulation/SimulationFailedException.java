@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+public class SimulationFailedException extends RuntimeException {
+    public SimulationFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+
+public record SimulationResult(GameBoardSize size, long games, long firstStrategyWins, long secondStrategyWins, long ties, long nanos) {
+    public double firstStrategyWinRate() {
+        return this.games == 0 ? 0 : (double) this.firstStrategyWins / this.games;
+    }
+
+    public double secondStrategyWinRate() {
+        return this.games == 0 ? 0 : (double) this.secondStrategyWins / this.games;
+    }
+
+    public double tieRate() {
+        return this.games == 0 ? 0 : (double) this.ties / this.games;
+    }
+
+    public double gamesPerSecond() {
+        return this.nanos == 0 ? 0 : this.games / (this.nanos / 1e9);
+    }
+}
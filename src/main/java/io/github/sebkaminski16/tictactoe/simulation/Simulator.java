@@ -0,0 +1,123 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+//plays batches of computer vs computer games without any console output
+//the games are split evenly between worker threads, each worker owns one Game (reset between games) and its own strategies
+//the strategies take turns at moving first
+//every worker splits its Game and the seeds of its strategies off one generator seeded by the simulation seed, so the
+//same seed and number of threads play the same games - as long as the strategies do not depend on time
+//usage: Simulator <SMALL|MEDIUM|LARGE> <games> <first strategy> <second strategy> [threads] [seed]
+public class Simulator {
+    private static final int FIRST_WINS = 0;
+    private static final int SECOND_WINS = 1;
+    private static final int TIES = 2;
+
+    private final GameBoardSize size;
+    private final LongFunction<? extends MoveStrategy> firstStrategy;
+    private final LongFunction<? extends MoveStrategy> secondStrategy;
+    private final long seed;
+    private final int threads;
+
+    //the strategies are created from seeds, e.g. by Strategies.parseSeeded
+    public Simulator(GameBoardSize size, LongFunction<? extends MoveStrategy> firstStrategy, LongFunction<? extends MoveStrategy> secondStrategy,
+                     long seed, int threads) {
+        if(threads <= 0) throw new IncorrectSimulationConfigurationException("Number of threads has to be positive!");
+        this.size = size;
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+        this.seed = seed;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) {
+        if(args.length < 4) {
+            System.out.println("usage: Simulator <SMALL|MEDIUM|LARGE> <games> <first strategy> <second strategy> [threads] [seed]");
+            System.out.println("strategies: random, alphabeta[:ms|:d<depth>], mcts[:iterations]");
+            return;
+        }
+        GameBoardSize size = GameBoardSize.valueOf(args[0]);
+        long games = Long.parseLong(args[1]);
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : new SplittableRandom().nextLong();
+        Simulator simulator = new Simulator(size, Strategies.parseSeeded(args[2]), Strategies.parseSeeded(args[3]), seed, threads);
+
+        SimulationResult result = simulator.run(games);
+        System.out.printf("%s, %d games on %d threads, seed %d%n", size, result.games(), threads, seed);
+        System.out.printf("%-12s wins %6.2f%%%n", args[2], result.firstStrategyWinRate() * 100);
+        System.out.printf("%-12s wins %6.2f%%%n", args[3], result.secondStrategyWinRate() * 100);
+        System.out.printf("%-12s      %6.2f%%%n", "ties", result.tieRate() * 100);
+        System.out.printf("%.0f games/sec%n", result.gamesPerSecond());
+    }
+
+    public SimulationResult run(long games) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        try {
+            List<Future<long[]>> workers = new ArrayList<>(this.threads);
+            Game seeded = new Game(this.seed);
+            long firstGame = 0;
+            for(int i = 0; i < this.threads; i++) {
+                long share = games / this.threads + (i < games % this.threads ? 1 : 0);
+                long offset = firstGame;
+                Game game = seeded.split();
+                long firstSeed = seeded.getRandom().nextLong();
+                long secondSeed = seeded.getRandom().nextLong();
+                workers.add(executor.submit(() -> this.play(game, firstSeed, secondSeed, offset, share)));
+                firstGame += share;
+            }
+            long[] outcomes = new long[3];
+            for(Future<long[]> worker : workers) {
+                long[] workerOutcomes = worker.get();
+                for(int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += workerOutcomes[i];
+                }
+            }
+            return new SimulationResult(this.size, games, outcomes[FIRST_WINS], outcomes[SECOND_WINS], outcomes[TIES], System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new SimulationFailedException("Simulation failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimulationFailedException("Simulation was interrupted!", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    //games [firstGame, firstGame + games) - the first strategy starts the even ones
+    private long[] play(Game game, long firstSeed, long secondSeed, long firstGame, long games) {
+        MoveStrategy first = this.firstStrategy.apply(firstSeed);
+        MoveStrategy second = this.secondStrategy.apply(secondSeed);
+        long[] outcomes = new long[3];
+        game.configure(this.size, "Starting player", "Second player");
+        for(long i = firstGame; i < firstGame + games; i++) {
+            if(i != firstGame) game.reset();
+            boolean firstStarts = (i & 1) == 0;
+            MoveStrategy starting = firstStarts ? first : second;
+            MoveStrategy other = firstStarts ? second : first;
+            while(game.getGameStatus() == GameStatus.UNSETTLED) {
+                game.insertSymbolChosenBy(game.getCurrentlyPlayingPlayer() == game.getPlayers().getFirst() ? starting : other);
+            }
+            if(game.getGameStatus() == GameStatus.TIE) {
+                outcomes[TIES]++;
+            } else if((game.getWinner() == game.getPlayers().getFirst()) == firstStarts) {
+                outcomes[FIRST_WINS]++;
+            } else {
+                outcomes[SECOND_WINS]++;
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+//sequential probability ratio test of one strategy being elo1 stronger than the other (H1) rather than elo0 (H0),
+//with error rates alpha and beta - run in both directions, so the stronger one can be either of them
+//the log-likelihood ratio is the normal approximation over wins, draws and losses (generalized SPRT)
+public record Sprt(double elo0, double elo1, double alpha, double beta) {
+    public static final Sprt DEFAULT = new Sprt(0, 30, 0.05, 0.05);
+
+    public Sprt {
+        if(elo1 <= elo0) throw new IncorrectSimulationConfigurationException("elo1 has to be greater than elo0!");
+        if(alpha <= 0 || alpha >= 0.5 || beta <= 0 || beta >= 0.5)
+            throw new IncorrectSimulationConfigurationException("Error rates should be from range (0-0.5)!");
+    }
+
+    //H0 is accepted at or below it
+    public double lowerBound() {
+        return Math.log(this.beta / (1 - this.alpha));
+    }
+
+    //H1 is accepted at or above it
+    public double upperBound() {
+        return Math.log((1 - this.beta) / this.alpha);
+    }
+
+    //for H1 over H0 from the view of the player with the given wins
+    public double logLikelihoodRatio(long wins, long draws, long losses) {
+        long games = wins + draws + losses;
+        if(games == 0) return 0;
+        double score = (wins + draws * 0.5) / games;
+        double variance = (wins * (1 - score) * (1 - score) + draws * (0.5 - score) * (0.5 - score) + losses * score * score) / games;
+        double score0 = Elo.expectedScore(this.elo0);
+        double score1 = Elo.expectedScore(this.elo1);
+        double ratio = games * (score1 - score0) * (2 * score - score0 - score1);
+        //only one kind of result so far - certain, as far as these games can tell
+        if(variance == 0) return ratio == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, ratio);
+        return ratio / (2 * variance);
+    }
+
+    public SprtVerdict verdict(long firstWins, long draws, long secondWins) {
+        double first = this.logLikelihoodRatio(firstWins, draws, secondWins);
+        double second = this.logLikelihoodRatio(secondWins, draws, firstWins);
+        if(first >= this.upperBound()) return SprtVerdict.FIRST_STRONGER;
+        if(second >= this.upperBound()) return SprtVerdict.SECOND_STRONGER;
+        if(first <= this.lowerBound() && second <= this.lowerBound()) return SprtVerdict.EVEN;
+        return SprtVerdict.INCONCLUSIVE;
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+//EVEN - neither strategy is stronger by the tested margin, INCONCLUSIVE - not decided (yet)
+public enum SprtVerdict {
+    FIRST_STRONGER,
+    SECOND_STRONGER,
+    EVEN,
+    INCONCLUSIVE
+}
@@ -0,0 +1,57 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.ai.AlphaBetaStrategy;
+import io.github.sebkaminski16.tictactoe.ai.MctsStrategy;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.SeededMoveStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+//strategies by name for the command line tools - every worker thread gets its own instance from the supplier
+//random, alphabeta[:millis per move | :d<depth>], mcts[:iterations per move]
+//a depth limited alpha-beta, mcts and random play the same games for the same seed, a time limited alpha-beta does not
+public final class Strategies {
+    private static final long ONE_MINUTE_MILLIS = 60_000;
+    private static final int MCTS_NODES = 1 << 16;
+    private static final int TABLE_SIZE_IN_BITS = 16;
+
+    private Strategies() {
+    }
+
+    public static Supplier<MoveStrategy> parse(String specification) {
+        LongFunction<SeededMoveStrategy> seeded = parseSeeded(specification);
+        return () -> seeded.apply(ThreadLocalRandom.current().nextLong());
+    }
+
+    //a new instance for every seed, drawing all of its random numbers from it - reseed one to play it again with another seed
+    public static LongFunction<SeededMoveStrategy> parseSeeded(String specification) {
+        String[] parts = specification.split(":", 2);
+        String name = parts[0].toLowerCase();
+        String parameter = parts.length > 1 ? parts[1] : null;
+        try {
+            return switch(name) {
+                case "random" -> seed -> new RandomMoveStrategy(new SplittableRandom(seed));
+                case "alphabeta" -> {
+                    if(parameter != null && parameter.startsWith("d")) {
+                        int depth = Integer.parseInt(parameter.substring(1));
+                        if(depth <= 0) throw new NumberFormatException();
+                        yield seed -> new AlphaBetaStrategy(ONE_MINUTE_MILLIS, TABLE_SIZE_IN_BITS, depth);
+                    }
+                    long millis = parameter == null ? 10 : Long.parseLong(parameter);
+                    yield seed -> new AlphaBetaStrategy(millis, TABLE_SIZE_IN_BITS);
+                }
+                case "mcts" -> {
+                    int iterations = parameter == null ? 1_000 : Integer.parseInt(parameter);
+                    yield seed -> new MctsStrategy(ONE_MINUTE_MILLIS, iterations, MCTS_NODES, new SplittableRandom(seed));
+                }
+                default -> throw new UnknownStrategyException("Unknown strategy: " + specification + "! Use random, alphabeta[:ms|:d<depth>] or mcts[:iterations]");
+            };
+        } catch (NumberFormatException e) {
+            throw new UnknownStrategyException("Incorrect strategy parameter: " + specification);
+        }
+    }
+}
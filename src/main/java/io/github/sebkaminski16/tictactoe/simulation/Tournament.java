@@ -0,0 +1,232 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.MoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.SeededMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+//round robin between strategies on every board size, with Elo ratings of the strategies per board size
+//games are played in pairs - the same seeds, once each strategy starts - and the symbol of the starting player
+//changes from pair to pair; every game reseeds the strategies from the tournament seed, the board size, the pairing
+//and the number of the pair, so the results do not depend on the threads or the order of the games - a task keeps
+//one instance of each strategy for all of its games, so their tables are not allocated again for every game
+//a pairing plays batches of games until the SPRT decides it or it reaches the maximum number of games,
+//the SPRT is only looked at between batches - null plays the maximum everywhere
+//usage: Tournament <SMALL,MEDIUM,LARGE|ALL> <max games per pairing> <seed> <strategy> <strategy> [strategy...]
+public class Tournament {
+    public static final int BATCH_GAMES = 100;
+    private static final int MIN_GAMES_PER_TASK = 10;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int FIRST_WINS = 0;
+    private static final int DRAWS = 1;
+    private static final int SECOND_WINS = 2;
+
+    private final List<String> strategies;
+    private final List<LongFunction<SeededMoveStrategy>> factories = new ArrayList<>();
+    private final List<GameBoardSize> sizes;
+    private final long maxGamesPerPairing;
+    private final Sprt sprt;
+    private final long seed;
+    private final int threads;
+
+    public Tournament(List<String> strategies, List<GameBoardSize> sizes, long maxGamesPerPairing, Sprt sprt, long seed, int threads) {
+        if(strategies.size() < 2) throw new IncorrectSimulationConfigurationException("A tournament needs at least 2 strategies!");
+        if(new HashSet<>(strategies).size() != strategies.size()) throw new IncorrectSimulationConfigurationException("Every strategy can take part only once!");
+        if(sizes.isEmpty()) throw new IncorrectSimulationConfigurationException("A tournament needs at least 1 board size!");
+        if(maxGamesPerPairing <= 0 || maxGamesPerPairing % 2 != 0)
+            throw new IncorrectSimulationConfigurationException("Games are played in pairs - the maximum number of games has to be positive and even!");
+        if(threads <= 0) throw new IncorrectSimulationConfigurationException("Number of threads has to be positive!");
+        for(String strategy : strategies) {
+            this.factories.add(Strategies.parseSeeded(strategy));
+        }
+        this.strategies = List.copyOf(strategies);
+        this.sizes = List.copyOf(sizes);
+        this.maxGamesPerPairing = maxGamesPerPairing;
+        this.sprt = sprt;
+        this.seed = seed;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) {
+        if(args.length < 5) {
+            System.out.println("usage: Tournament <SMALL,MEDIUM,LARGE|ALL> <max games per pairing> <seed> <strategy> <strategy> [strategy...]");
+            System.out.println("strategies: random, alphabeta[:ms|:d<depth>], mcts[:iterations]");
+            return;
+        }
+        List<GameBoardSize> sizes = new ArrayList<>();
+        if(args[0].equalsIgnoreCase("ALL")) sizes.addAll(List.of(GameBoardSize.values()));
+        else for(String size : args[0].split(",")) sizes.add(GameBoardSize.valueOf(size));
+        long maxGames = Long.parseLong(args[1]);
+        long seed = Long.parseLong(args[2]);
+        List<String> strategies = List.of(Arrays.copyOfRange(args, 3, args.length));
+        int threads = Runtime.getRuntime().availableProcessors();
+        Tournament tournament = new Tournament(strategies, sizes, maxGames, Sprt.DEFAULT, seed, threads);
+
+        for(TournamentResult result : tournament.run()) {
+            System.out.printf("%s, %d games on %d threads, %.0f games/sec%n", result.size(), result.games(), threads, result.gamesPerSecond());
+            for(Rating rating : result.ratings()) {
+                System.out.printf("  %-16s %7.1f +- %.1f%n", rating.strategy(), rating.elo(), rating.margin());
+            }
+            for(PairingResult pairing : result.pairings()) {
+                System.out.printf("  %-16s vs %-16s +%d =%d -%d  %+.1f +- %.1f  %s%n", pairing.first(), pairing.second(),
+                        pairing.firstWins(), pairing.draws(), pairing.secondWins(), pairing.eloDifference(), pairing.eloMargin(), pairing.verdict());
+            }
+        }
+    }
+
+    public List<TournamentResult> run() {
+        ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        try {
+            List<TournamentResult> results = new ArrayList<>(this.sizes.size());
+            for(GameBoardSize size : this.sizes) {
+                results.add(this.run(size, executor));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new SimulationFailedException("Tournament failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimulationFailedException("Tournament was interrupted!", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private TournamentResult run(GameBoardSize size, ExecutorService executor) throws ExecutionException, InterruptedException {
+        long start = System.nanoTime();
+        int players = this.strategies.size();
+        List<int[]> pairings = new ArrayList<>();
+        for(int first = 0; first < players; first++) {
+            for(int second = first + 1; second < players; second++) {
+                pairings.add(new int[] {first, second});
+            }
+        }
+        long[][] outcomes = new long[pairings.size()][3];
+        long[] played = new long[pairings.size()];
+        SprtVerdict[] verdicts = new SprtVerdict[pairings.size()];
+        Arrays.fill(verdicts, SprtVerdict.INCONCLUSIVE);
+        boolean[] finished = new boolean[pairings.size()];
+
+        //the next batch of every unfinished pairing at once, cut into tasks of whole pairs of games
+        int unfinished = pairings.size();
+        while(unfinished > 0) {
+            long batchGames = 0;
+            for(int pairing = 0; pairing < pairings.size(); pairing++) {
+                if(!finished[pairing]) batchGames += Math.min(BATCH_GAMES, this.maxGamesPerPairing - played[pairing]);
+            }
+            long taskGames = Math.max(MIN_GAMES_PER_TASK, batchGames / this.threads + 1);
+            taskGames += taskGames % 2;
+            List<Future<long[]>> tasks = new ArrayList<>();
+            List<Integer> taskPairings = new ArrayList<>();
+            for(int pairing = 0; pairing < pairings.size(); pairing++) {
+                if(finished[pairing]) continue;
+                long end = Math.min(played[pairing] + BATCH_GAMES, this.maxGamesPerPairing);
+                for(long from = played[pairing]; from < end; from += taskGames) {
+                    int index = pairing;
+                    int first = pairings.get(pairing)[0];
+                    int second = pairings.get(pairing)[1];
+                    long fromGame = from;
+                    long toGame = Math.min(from + taskGames, end);
+                    tasks.add(executor.submit(() -> this.play(size, index, first, second, fromGame, toGame)));
+                    taskPairings.add(pairing);
+                }
+                played[pairing] = end;
+            }
+            for(int task = 0; task < tasks.size(); task++) {
+                long[] taskOutcomes = tasks.get(task).get();
+                for(int i = 0; i < 3; i++) {
+                    outcomes[taskPairings.get(task)][i] += taskOutcomes[i];
+                }
+            }
+            for(int pairing = 0; pairing < pairings.size(); pairing++) {
+                if(finished[pairing]) continue;
+                long[] counts = outcomes[pairing];
+                if(this.sprt != null) verdicts[pairing] = this.sprt.verdict(counts[FIRST_WINS], counts[DRAWS], counts[SECOND_WINS]);
+                if(verdicts[pairing] != SprtVerdict.INCONCLUSIVE || played[pairing] == this.maxGamesPerPairing) {
+                    finished[pairing] = true;
+                    unfinished--;
+                }
+            }
+        }
+
+        List<PairingResult> pairingResults = new ArrayList<>(pairings.size());
+        long[][] games = new long[players][players];
+        double[][] scores = new double[players][players];
+        long totalGames = 0;
+        for(int pairing = 0; pairing < pairings.size(); pairing++) {
+            int first = pairings.get(pairing)[0];
+            int second = pairings.get(pairing)[1];
+            long[] counts = outcomes[pairing];
+            PairingResult result = new PairingResult(size, this.strategies.get(first), this.strategies.get(second),
+                    counts[FIRST_WINS], counts[DRAWS], counts[SECOND_WINS], verdicts[pairing]);
+            pairingResults.add(result);
+            games[first][second] = games[second][first] = result.games();
+            scores[first][second] = counts[FIRST_WINS] + counts[DRAWS] * 0.5;
+            scores[second][first] = counts[SECOND_WINS] + counts[DRAWS] * 0.5;
+            totalGames += result.games();
+        }
+        double[] margins = new double[players];
+        double[] elos = Elo.fitRatings(games, scores, margins);
+        List<Rating> ratings = new ArrayList<>(players);
+        for(int player = 0; player < players; player++) {
+            ratings.add(new Rating(this.strategies.get(player), elos[player], margins[player]));
+        }
+        ratings.sort(Comparator.comparingDouble(Rating::elo).reversed());
+        return new TournamentResult(size, pairingResults, ratings, totalGames, System.nanoTime() - start);
+    }
+
+    //games [fromGame, toGame) of a pairing - even games are started by the first strategy, odd ones by the second
+    private long[] play(GameBoardSize size, int pairing, int first, int second, long fromGame, long toGame) {
+        long[] outcomes = new long[3];
+        Game game = new Game();
+        SeededMoveStrategy firstStrategy = this.factories.get(first).apply(0);
+        SeededMoveStrategy secondStrategy = this.factories.get(second).apply(0);
+        for(long i = fromGame; i < toGame; i++) {
+            long pair = i >>> 1;
+            boolean firstStarts = (i & 1) == 0;
+            game.configure(size.getValue(), size.getValue(), (pair & 1) == 0 ? Symbol.X : Symbol.O, "Starting player", "Second player");
+            long pairSeed = gameSeed(this.seed, size, pairing, pair);
+            firstStrategy.reseed(pairSeed);
+            secondStrategy.reseed(mix(pairSeed + GOLDEN_GAMMA));
+            MoveStrategy starting = firstStarts ? firstStrategy : secondStrategy;
+            MoveStrategy other = firstStarts ? secondStrategy : firstStrategy;
+            while(game.getGameStatus() == GameStatus.UNSETTLED) {
+                game.insertSymbolChosenBy(game.getCurrentlyPlayingPlayer() == game.getPlayers().getFirst() ? starting : other);
+            }
+            if(game.getGameStatus() == GameStatus.TIE) {
+                outcomes[DRAWS]++;
+            } else if((game.getWinner() == game.getPlayers().getFirst()) == firstStarts) {
+                outcomes[FIRST_WINS]++;
+            } else {
+                outcomes[SECOND_WINS]++;
+            }
+        }
+        return outcomes;
+    }
+
+    static long gameSeed(long seed, GameBoardSize size, int pairing, long pair) {
+        long hash = mix(seed + GOLDEN_GAMMA * (size.ordinal() + 1));
+        hash = mix(hash + GOLDEN_GAMMA * (pairing + 1));
+        return mix(hash + GOLDEN_GAMMA * (pair + 1));
+    }
+
+    //the finalizer of SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
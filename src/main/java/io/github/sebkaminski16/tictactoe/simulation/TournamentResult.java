@@ -0,0 +1,12 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+
+import java.util.List;
+
+//ratings - best first
+public record TournamentResult(GameBoardSize size, List<PairingResult> pairings, List<Rating> ratings, long games, long nanos) {
+    public double gamesPerSecond() {
+        return this.nanos == 0 ? 0 : this.games / (this.nanos / 1e9);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+public class UnknownStrategyException extends RuntimeException {
+    public UnknownStrategyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class AlphaBetaStrategyTestSuite {
+
+    @Nested
+    class chooseCellTests {
+        @Test
+        public void chooseCellShouldCompleteOwnLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            board.place(0, Symbol.X);
+            board.place(3, Symbol.O);
+            board.place(1, Symbol.X);
+            board.place(4, Symbol.O);
+            //act
+            int cell = new AlphaBetaStrategy(50).chooseCell(board, Symbol.X);
+            //assert
+            Assertions.assertEquals(2, cell);
+        }
+
+        @Test
+        public void chooseCellShouldBlockOpponentLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            board.place(0, Symbol.X);
+            board.place(5, Symbol.O);
+            board.place(4, Symbol.X);
+            board.place(6, Symbol.O);
+            board.place(8, Symbol.X);
+            //act
+            int cell = new AlphaBetaStrategy(50).chooseCell(board, Symbol.O);
+            //assert
+            Assertions.assertEquals(12, cell);
+        }
+
+        @Test
+        public void chooseCellShouldLeaveBoardUntouched() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.LARGE);
+            board.place(12, Symbol.X);
+            //act
+            new AlphaBetaStrategy(20).chooseCell(board, Symbol.O);
+            //assert
+            Assertions.assertEquals(1, board.getMoveCount());
+            Assertions.assertEquals(1L << 12, board.getCells(Symbol.X));
+            Assertions.assertEquals(0L, board.getCells(Symbol.O));
+        }
+
+        @Test
+        public void selfPlayOnSmallBoardShouldEndInTie() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            AlphaBetaStrategy strategy = new AlphaBetaStrategy(200);
+            Symbol symbol = Symbol.X;
+            boolean completed = false;
+            //act
+            while(!completed && !board.isFull()) {
+                completed = board.place(strategy.chooseCell(board, symbol), symbol);
+                symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+            }
+            //assert
+            Assertions.assertFalse(completed);
+        }
+
+        @Test
+        public void chooseCellShouldBlockOpenFourOnLargeBoard() {
+            //arrange
+            BitBoard board = new BitBoard(19, 5);
+            for(int i = 0; i < 4; i++) {
+                board.place(9 * 19 + 5 + i, Symbol.X);
+            }
+            board.place(0, Symbol.O);
+            board.place(9 * 19 + 4, Symbol.O);
+            board.place(18 * 19 + 18, Symbol.O);
+            //act
+            int cell = new AlphaBetaStrategy(100).chooseCell(board, Symbol.O);
+            //assert
+            Assertions.assertEquals(9 * 19 + 9, cell);
+        }
+
+        @Test
+        public void reusedSearchShouldPlayLikeNewOneAcrossBoardSizes() {
+            //arrange
+            BitBoard large = new BitBoard(19, 5);
+            for(int i = 0; i < 4; i++) {
+                large.place(9 * 19 + 5 + i, Symbol.X);
+            }
+            large.place(9 * 19 + 4, Symbol.O);
+            BitBoard other = new BitBoard(19, 5);
+            other.place(0, Symbol.X);
+            BitBoard small = new BitBoard(GameBoardSize.SMALL);
+            small.place(0, Symbol.X);
+            small.place(1, Symbol.X);
+            AlphaBetaStrategy reused = new AlphaBetaStrategy(60_000, 16, 2);
+            //act
+            reused.chooseCell(other, Symbol.O);
+            int smallCell = reused.chooseCell(small, Symbol.X);
+            reused.chooseCell(other, Symbol.O);
+            int largeCell = reused.chooseCell(large, Symbol.O);
+            //assert
+            Assertions.assertEquals(2, smallCell);
+            Assertions.assertEquals(new AlphaBetaStrategy(60_000, 16, 2).chooseCell(large, Symbol.O), largeCell);
+            Assertions.assertEquals(9 * 19 + 9, largeCell);
+        }
+    }
+
+    @Nested
+    class transpositionTableTests {
+        @Test
+        public void storedEntryShouldBeReadBack() {
+            //arrange
+            TranspositionTable table = new TranspositionTable(4);
+            //act
+            table.store(42L, -1234, 17, 9, TranspositionTable.LOWER_BOUND);
+            long entry = table.probe(42L);
+            //assert
+            Assertions.assertEquals(-1234, TranspositionTable.score(entry));
+            Assertions.assertEquals(17, TranspositionTable.bestMove(entry));
+            Assertions.assertEquals(9, TranspositionTable.depth(entry));
+            Assertions.assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+            Assertions.assertEquals(TranspositionTable.NO_ENTRY, table.probe(43L));
+        }
+
+        @Test
+        public void shallowerEntryOfSameSearchShouldNotReplaceDeeperOne() {
+            //arrange
+            TranspositionTable table = new TranspositionTable(1);
+            table.store(2L, 1, 1, 8, TranspositionTable.EXACT);
+            //act
+            table.store(4L, 2, 2, 3, TranspositionTable.EXACT);
+            //assert
+            Assertions.assertEquals(TranspositionTable.NO_ENTRY, table.probe(4L));
+            Assertions.assertEquals(8, TranspositionTable.depth(table.probe(2L)));
+        }
+
+        @Test
+        public void entryOfOlderSearchShouldBeReplaced() {
+            //arrange
+            TranspositionTable table = new TranspositionTable(1);
+            table.store(2L, 1, 1, 8, TranspositionTable.EXACT);
+            table.newSearch();
+            //act
+            table.store(4L, 2, 2, 3, TranspositionTable.EXACT);
+            //assert
+            Assertions.assertEquals(3, TranspositionTable.depth(table.probe(4L)));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class GameSolverTestSuite {
+
+    @Nested
+    class solveTests {
+        @Test
+        public void smallBoardShouldBeDrawWhoeverStarts() throws IOException {
+            for(Symbol startingSymbol : Symbol.values()) {
+                //arrange
+                try(GameSolver solver = new GameSolver(GameBoardSize.SMALL, startingSymbol)) {
+                    //act
+                    int outcome = solver.solve();
+                    //assert
+                    Assertions.assertEquals(Tablebase.DRAW, outcome);
+                    Assertions.assertTrue(solver.getPositions() > 0);
+                }
+            }
+        }
+
+        @Test
+        public void doubleThreatShouldBeWonAndTheWinningMoveChosen() throws IOException {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            board.place(0, Symbol.X);
+            board.place(4, Symbol.O);
+            board.place(8, Symbol.X);
+            board.place(2, Symbol.O);
+            board.place(6, Symbol.X);
+            try(GameSolver solver = new GameSolver(GameBoardSize.SMALL, Symbol.X)) {
+                //act
+                int outcome = solver.solve(board, Symbol.O);
+                int move = solver.chooseCell(board, Symbol.X);
+                //assert
+                Assertions.assertEquals(Tablebase.LOSS, outcome);
+                Assertions.assertTrue(move == 3 || move == 7);
+                Assertions.assertEquals(Tablebase.WIN, solver.solve(board, Symbol.X));
+            }
+        }
+
+        @Test
+        public void solverShouldOnlyAcceptItsBoardSize() throws IOException {
+            try(GameSolver solver = new GameSolver(GameBoardSize.SMALL, Symbol.X)) {
+                //act & assert
+                Assertions.assertThrows(IncorrectStrategyConfigurationException.class, () -> solver.solve(new BitBoard(GameBoardSize.MEDIUM), Symbol.X));
+            }
+        }
+    }
+
+    @Nested
+    class crossCheckTests {
+        @Test
+        public void solverShouldAgreeWithTablebaseWhenSpillingToDisk() throws IOException {
+            //arrange
+            Path directory = Files.createTempDirectory("solver");
+            TablebaseGenerator generator = new TablebaseGenerator(GameBoardSize.SMALL);
+            generator.solve();
+            Path file = directory.resolve("small.bin");
+            generator.write(file);
+            Tablebase tablebase = Tablebase.open(file);
+            Random random = new Random(21);
+            try(GameSolver solver = new GameSolver(GameBoardSize.SMALL, Symbol.X, 4, directory)) {
+                for(int i = 0; i < 2000; i++) {
+                    BitBoard board = new BitBoard(GameBoardSize.SMALL);
+                    Symbol toMove = Symbol.X;
+                    boolean finished = false;
+                    int moves = random.nextInt(8);
+                    for(int move = 0; move < moves && !finished; move++) {
+                        finished = board.place(board.getRandomFreeCell(random), toMove);
+                        toMove = toMove == Symbol.X ? Symbol.O : Symbol.X;
+                    }
+                    int entry = tablebase.lookup(board, toMove);
+                    if(finished || entry == Tablebase.NOT_FOUND) continue;
+                    //act & assert
+                    Assertions.assertEquals(Tablebase.outcome(entry), solver.solve(board, toMove), board.asList().toString());
+                }
+                Assertions.assertTrue(solver.formatProgress().contains(" on disk in "));
+            } finally {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(directory);
+            }
+        }
+
+        @Test
+        public void mergedRunsShouldKeepEveryPosition() throws IOException {
+            //arrange
+            Path directory = Files.createTempDirectory("solved");
+            try(SolvedPositions positions = new SolvedPositions(4, directory)) {
+                //act
+                for(long key = 1; key <= 1_000; key++) {
+                    positions.put(key, SolvedPositions.EXACT, (int) (key % 3));
+                }
+                for(long key = 1; key <= 1_000; key += 2) {
+                    positions.put(key, SolvedPositions.LOWER_BOUND, 0);
+                }
+                //assert
+                Assertions.assertTrue(positions.getRuns() <= 8);
+                Assertions.assertTrue(positions.getEntriesOnDisk() >= 1_000 - positions.getEntriesInMemory());
+                Assertions.assertEquals(0, positions.get(1_001));
+                for(long key = 1; key <= 1_000; key++) {
+                    long entry = positions.get(key);
+                    Assertions.assertEquals(key, entry >>> 4);
+                    if(SolvedPositions.bound(entry) == SolvedPositions.EXACT) Assertions.assertEquals(key % 3, SolvedPositions.outcome(entry));
+                    else Assertions.assertEquals(1, key % 2);
+                }
+            } finally {
+                Files.deleteIfExists(directory);
+            }
+        }
+
+        @Test
+        public void provenOutcomeShouldHoldWhenPlayedOutOnGame() throws IOException {
+            //arrange
+            try(GameSolver solver = new GameSolver(GameBoardSize.MEDIUM, Symbol.O)) {
+                //act
+                int mismatches = solver.crossCheck(50, 7);
+                //assert
+                Assertions.assertEquals(0, mismatches);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class MctsStrategyTestSuite {
+    private static final long ONE_MINUTE_MILLIS = 60_000;
+
+    @Nested
+    class chooseCellTests {
+        @Test
+        public void chooseCellShouldCompleteOwnLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            board.place(0, Symbol.X);
+            board.place(3, Symbol.O);
+            board.place(1, Symbol.X);
+            board.place(4, Symbol.O);
+            MctsStrategy strategy = new MctsStrategy(ONE_MINUTE_MILLIS, 5_000, 1 << 16, new SplittableRandom(7));
+            //act
+            int cell = strategy.chooseCell(board, Symbol.X);
+            //assert
+            Assertions.assertEquals(2, cell);
+        }
+
+        @Test
+        public void chooseCellShouldBlockOpponentLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            board.place(0, Symbol.X);
+            board.place(4, Symbol.O);
+            board.place(8, Symbol.X);
+            board.place(2, Symbol.O);
+            MctsStrategy strategy = new MctsStrategy(ONE_MINUTE_MILLIS, 20_000, 1 << 16, new SplittableRandom(7));
+            //act
+            int cell = strategy.chooseCell(board, Symbol.X);
+            //assert
+            Assertions.assertEquals(6, cell);
+        }
+
+        @Test
+        public void chooseCellShouldRespectIterationBudgetAndLeaveBoardUntouched() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.LARGE);
+            board.place(12, Symbol.X);
+            MctsStrategy strategy = new MctsStrategy(ONE_MINUTE_MILLIS, 1_000, 1 << 12, new SplittableRandom(7));
+            //act
+            int cell = strategy.chooseCell(board, Symbol.O);
+            //assert
+            Assertions.assertEquals(1_000, strategy.getLastIterations());
+            Assertions.assertTrue(strategy.getLastTreeSize() <= 1 << 12);
+            Assertions.assertTrue(board.isEmpty(cell));
+            Assertions.assertEquals(1, board.getMoveCount());
+            Assertions.assertEquals(1L << 12, board.getCells(Symbol.X));
+            Assertions.assertEquals(0L, board.getCells(Symbol.O));
+        }
+
+        @Test
+        public void fullNodePoolShouldKeepTreeAndStillChooseFreeCell() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            board.place(4, Symbol.X);
+            MctsStrategy strategy = new MctsStrategy(ONE_MINUTE_MILLIS, 200, 12, new SplittableRandom(7));
+            //act
+            int cell = strategy.chooseCell(board, Symbol.O);
+            //assert
+            Assertions.assertEquals(9, strategy.getLastTreeSize());
+            Assertions.assertTrue(board.isEmpty(cell));
+            Assertions.assertEquals(1, board.getMoveCount());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class ParallelAlphaBetaStrategyTestSuite {
+
+    @Nested
+    class chooseCellTests {
+        @Test
+        public void chooseCellShouldCompleteOwnLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            board.place(0, Symbol.O);
+            board.place(4, Symbol.X);
+            board.place(1, Symbol.O);
+            board.place(5, Symbol.X);
+            board.place(2, Symbol.O);
+            board.place(9, Symbol.X);
+            //act
+            int cell;
+            try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(100, 4)) {
+                cell = strategy.chooseCell(board, Symbol.O);
+            }
+            //assert
+            Assertions.assertEquals(3, cell);
+        }
+
+        @Test
+        public void failLowBoundShouldNotWinTieWithExactScore() {
+            //arrange
+            int[] scores = {0, 5, 5, 3};
+            int[] windows = {-AlphaBetaSearch.INFINITY, 5, 0, 5};
+            //act
+            int best = ParallelAlphaBetaStrategy.bestRootMove(scores, windows, 4);
+            //assert
+            Assertions.assertEquals(2, best);
+        }
+
+        @Test
+        public void searchesShouldBeReusedBetweenMovesAndSizes() {
+            //arrange
+            BitBoard medium = new BitBoard(GameBoardSize.MEDIUM);
+            medium.place(0, Symbol.O);
+            medium.place(1, Symbol.O);
+            medium.place(2, Symbol.O);
+            BitBoard small = new BitBoard(GameBoardSize.SMALL);
+            small.place(4, Symbol.X);
+            small.place(0, Symbol.X);
+            //act & assert
+            try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(60_000, 3, 4, 16)) {
+                for(int move = 0; move < 3; move++) {
+                    Assertions.assertEquals(3, strategy.chooseCell(medium, Symbol.O));
+                    Assertions.assertEquals(8, strategy.chooseCell(small, Symbol.X));
+                }
+            }
+        }
+
+        @Test
+        public void selfPlayOnSmallBoardShouldEndInTie() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            Symbol symbol = Symbol.O;
+            boolean completed = false;
+            //act
+            try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(500, 3)) {
+                while(!completed && !board.isFull()) {
+                    completed = board.place(strategy.chooseCell(board, symbol), symbol);
+                    symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+                }
+            }
+            //assert
+            Assertions.assertFalse(completed);
+        }
+
+        @Test
+        public void fixedDepthSearchShouldReportItsWork() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.LARGE);
+            board.place(12, Symbol.X);
+            //act
+            try(ParallelAlphaBetaStrategy strategy = new ParallelAlphaBetaStrategy(60_000, 2, 3, 16)) {
+                strategy.chooseCell(board, Symbol.O);
+                //assert
+                Assertions.assertEquals(3, strategy.getLastSearchDepth());
+                Assertions.assertTrue(strategy.getLastSearchNodes() > 0);
+                Assertions.assertEquals(2, strategy.getThreads());
+            }
+        }
+    }
+}
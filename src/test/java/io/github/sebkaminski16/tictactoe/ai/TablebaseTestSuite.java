@@ -0,0 +1,121 @@
+package io.github.sebkaminski16.tictactoe.ai;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.BoardSymmetries;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TablebaseTestSuite {
+    private Path file;
+    private Tablebase tablebase;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        //arrange
+        this.file = Files.createTempFile("tablebase", ".bin");
+        TablebaseGenerator generator = new TablebaseGenerator(GameBoardSize.SMALL);
+        generator.solve();
+        generator.write(this.file);
+        this.tablebase = Tablebase.open(this.file);
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Nested
+    class lookupTests {
+        @Test
+        public void emptyBoardShouldBeDraw() {
+            //act
+            int entry = tablebase.lookup(new BitBoard(GameBoardSize.SMALL), Symbol.X);
+            //assert
+            Assertions.assertEquals(3, tablebase.getCellsInRow());
+            Assertions.assertEquals(Tablebase.DRAW, Tablebase.outcome(entry));
+            Assertions.assertEquals(9, Tablebase.movesToEnd(entry));
+        }
+
+        @Test
+        public void lookupShouldFindWinningMoveInEveryOrientation() {
+            //arrange
+            BoardSymmetries symmetries = new BoardSymmetries(3);
+            for(int t = 0; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+                BitBoard board = new BitBoard(GameBoardSize.SMALL);
+                board.place(symmetries.transformCell(0, t), Symbol.O);
+                board.place(symmetries.transformCell(3, t), Symbol.X);
+                board.place(symmetries.transformCell(1, t), Symbol.O);
+                board.place(symmetries.transformCell(4, t), Symbol.X);
+                //act
+                int entry = tablebase.lookup(board, Symbol.O);
+                //assert
+                Assertions.assertEquals(Tablebase.WIN, Tablebase.outcome(entry));
+                Assertions.assertEquals(1, Tablebase.movesToEnd(entry));
+                Assertions.assertEquals(symmetries.transformCell(2, t), Tablebase.bestMove(entry));
+            }
+        }
+
+        @Test
+        public void lookupShouldNotFindOtherBoardSize() {
+            //act & assert
+            Assertions.assertEquals(Tablebase.NOT_FOUND, tablebase.lookup(new BitBoard(GameBoardSize.MEDIUM), Symbol.X));
+        }
+    }
+
+    @Nested
+    class tablebaseStrategyTests {
+        @Test
+        public void tablebaseStrategyShouldNeverLoseAgainstRandomPlayer() {
+            //arrange
+            TablebaseStrategy perfect = new TablebaseStrategy(new RandomMoveStrategy());
+            perfect.add(tablebase);
+            RandomMoveStrategy random = new RandomMoveStrategy();
+            for(int game = 0; game < 200; game++) {
+                BitBoard board = new BitBoard(GameBoardSize.SMALL);
+                Symbol symbol = game % 2 == 0 ? Symbol.X : Symbol.O;
+                Symbol winner = null;
+                //act
+                while(winner == null && !board.isFull()) {
+                    int cell = symbol == Symbol.X ? perfect.chooseCell(board, symbol) : random.chooseCell(board, symbol);
+                    if(board.place(cell, symbol)) winner = symbol;
+                    symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+                }
+                //assert
+                Assertions.assertNotEquals(Symbol.O, winner);
+            }
+        }
+
+        @Test
+        public void fileShouldBeRejectedWhenItIsNotATablebase() throws IOException {
+            //arrange
+            Files.write(file, new byte[32]);
+            //act & assert
+            Assertions.assertThrows(TablebaseFormatException.class, () -> Tablebase.open(file));
+        }
+
+        @Test
+        public void lookupShouldEndInTableWithoutEmptySlot() throws IOException {
+            //arrange
+            ByteBuffer full = ByteBuffer.allocate(Tablebase.HEADER_SIZE + 4 * Tablebase.SLOT_SIZE);
+            full.putInt(Tablebase.MAGIC).put(Tablebase.VERSION).put((byte) 3).put((byte) 2).put((byte) 0).putInt(4).putInt(0);
+            for(int slot = 0; slot < 4; slot++) {
+                full.putLong(-1L << 16);
+            }
+            Files.write(file, full.array());
+            Tablebase corrupt = Tablebase.open(file);
+            //act & assert
+            Assertions.assertEquals(Tablebase.NOT_FOUND, corrupt.lookup(new BitBoard(GameBoardSize.SMALL), Symbol.X));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class BatchWinCheckerTestSuite {
+
+    @Nested
+    class evaluateTests {
+        @Test
+        public void resultsShouldMatchGamesPlayedOnGame() {
+            SplittableRandom random = new SplittableRandom(22);
+            for(GameBoardSize size : GameBoardSize.values()) {
+                //arrange - random games stopped at random points, the batch length is not a multiple of any vector width
+                int count = 1003;
+                long[] xCells = new long[count];
+                long[] oCells = new long[count];
+                GameStatus[] statuses = new GameStatus[count];
+                Symbol[] winners = new Symbol[count];
+                Game game = new Game();
+                game.configure(size.getValue(), size.getValue(), Symbol.X, "Player1", "Player2");
+                RandomMoveStrategy randomMoves = new RandomMoveStrategy(random);
+                for(int i = 0; i < count; i++) {
+                    game.reset();
+                    int moves = random.nextInt(size.getValue() * size.getValue() + 1);
+                    for(int move = 0; move < moves && game.getGameStatus() == GameStatus.UNSETTLED; move++) {
+                        game.insertSymbolChosenBy(randomMoves);
+                    }
+                    for(int cell = 0; cell < game.getGameBoard().size(); cell++) {
+                        if(game.getGameBoard().get(cell) == Symbol.X) xCells[i] |= 1L << cell;
+                        if(game.getGameBoard().get(cell) == Symbol.O) oCells[i] |= 1L << cell;
+                    }
+                    statuses[i] = game.getGameStatus();
+                    winners[i] = game.getWinner() == null ? null : game.getWinner().symbol();
+                }
+                byte[] results = new byte[count];
+                //act
+                BatchWinChecker.evaluate(size, xCells, oCells, results, count);
+                //assert
+                for(int i = 0; i < count; i++) {
+                    Assertions.assertEquals(statuses[i], BatchWinChecker.status(results[i]));
+                    Assertions.assertEquals(winners[i], BatchWinChecker.winner(results[i]));
+                }
+            }
+        }
+
+        @Test
+        public void vectorAndScalarChecksShouldAgree() {
+            //arrange
+            SplittableRandom random = new SplittableRandom(7);
+            int count = 4099;
+            long[] xCells = new long[count];
+            long[] oCells = new long[count];
+            for(int i = 0; i < count; i++) {
+                long cells = random.nextLong() & BatchWinChecker.fullMask(GameBoardSize.LARGE);
+                long split = random.nextLong();
+                xCells[i] = cells & split;
+                oCells[i] = cells & ~split;
+            }
+            byte[] results = new byte[count];
+            byte[] expected = new byte[count];
+            //act
+            BatchWinChecker.evaluate(GameBoardSize.LARGE, xCells, oCells, results, count);
+            BatchWinChecker.evaluateScalar(BitBoard.getWinLines(GameBoardSize.LARGE), BatchWinChecker.fullMask(GameBoardSize.LARGE),
+                    xCells, oCells, expected, 0, count);
+            //assert
+            Assertions.assertArrayEquals(expected, results);
+        }
+
+        @Test
+        public void evaluateShouldRejectCountBeyondArrays() {
+            //arrange
+            long[] cells = new long[4];
+            //act & assert
+            Assertions.assertThrows(IncorrectBatchSizeException.class,
+                    () -> BatchWinChecker.evaluate(GameBoardSize.SMALL, cells, cells, new byte[3], 4));
+        }
+    }
+}
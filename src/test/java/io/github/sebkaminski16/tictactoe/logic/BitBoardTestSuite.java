@@ -0,0 +1,275 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class BitBoardTestSuite {
+
+    @Nested
+    class hasLineTests {
+        @Test
+        public void hasLineShouldDetectEveryRowColumnAndDiagonalOnEveryBoardSize() {
+            for(GameBoardSize size : GameBoardSize.values()) {
+                int n = size.getValue();
+                for(int line = 0; line < n * 2 + 2; line++) {
+                    //arrange
+                    BitBoard board = new BitBoard(size);
+                    for(int i = 0; i < n; i++) {
+                        int cell;
+                        if(line < n) cell = line * n + i;
+                        else if(line < n * 2) cell = i * n + line - n;
+                        else if(line == n * 2) cell = i * n + i;
+                        else cell = i * n + n - 1 - i;
+                        //act
+                        board.place(cell, Symbol.O);
+                    }
+                    //assert
+                    Assertions.assertTrue(board.hasLine(Symbol.O));
+                    Assertions.assertFalse(board.hasLine(Symbol.X));
+                }
+            }
+        }
+
+        @Test
+        public void hasLineShouldNotDetectIncompleteLine() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            //act
+            board.place(0, Symbol.X);
+            board.place(1, Symbol.X);
+            board.place(2, Symbol.X);
+            board.place(3, Symbol.O);
+            //assert
+            Assertions.assertFalse(board.hasLine(Symbol.X));
+        }
+    }
+
+    @Nested
+    class placeTests {
+        @Test
+        public void placeShouldReportCompletedLineExactlyWhenFullScanFindsOne() {
+            //arrange
+            Random random = new Random(16);
+            for(int game = 0; game < 2000; game++) {
+                GameBoardSize size = GameBoardSize.values()[game % GameBoardSize.values().length];
+                BitBoard board = new BitBoard(size);
+                Symbol symbol = Symbol.X;
+                boolean finished = false;
+                while(!finished) {
+                    int cell = random.nextInt(board.getCellCount());
+                    if(!board.isEmpty(cell)) continue;
+                    //act
+                    boolean completed = board.place(cell, symbol);
+                    //assert
+                    Assertions.assertEquals(board.hasLine(symbol), completed);
+                    finished = completed || board.isFull();
+                    symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+                }
+            }
+        }
+    }
+
+    @Nested
+    class kInARowTests {
+        @Test
+        public void placeShouldReportFiveInARowAnywhereOnLargeBoard() {
+            //arrange
+            BitBoard board = new BitBoard(19, 5);
+            //act
+            for(int i = 0; i < 4; i++) {
+                Assertions.assertFalse(board.place((7 + i) * 19 + 12 - i, Symbol.X));
+            }
+            boolean completed = board.place(11 * 19 + 8, Symbol.X);
+            //assert
+            Assertions.assertTrue(completed);
+            Assertions.assertTrue(board.hasLine(Symbol.X));
+        }
+
+        @Test
+        public void placeShouldNotReportLineWrappingAroundRowEdge() {
+            //arrange
+            BitBoard board = new BitBoard(9, 4);
+            //act
+            board.place(7, Symbol.O);
+            board.place(8, Symbol.O);
+            board.place(9, Symbol.O);
+            boolean completed = board.place(10, Symbol.O);
+            //assert
+            Assertions.assertFalse(completed);
+            Assertions.assertFalse(board.hasLine(Symbol.O));
+        }
+
+        @Test
+        public void placeShouldReportCompletedLineExactlyWhenFullScanFindsOneWithKInARow() {
+            //arrange
+            Random random = new Random(10);
+            int[][] rules = {{9, 4}, {19, 5}, {32, 6}};
+            for(int game = 0; game < 300; game++) {
+                int[] rule = rules[game % rules.length];
+                BitBoard board = new BitBoard(rule[0], rule[1]);
+                Symbol symbol = Symbol.X;
+                boolean finished = false;
+                while(!finished) {
+                    int cell = random.nextInt(board.getCellCount());
+                    if(!board.isEmpty(cell)) continue;
+                    //act
+                    boolean completed = board.place(cell, symbol);
+                    //assert
+                    Assertions.assertEquals(board.hasLine(symbol), completed);
+                    finished = completed || board.isFull();
+                    symbol = symbol == Symbol.X ? Symbol.O : Symbol.X;
+                }
+            }
+        }
+
+        @Test
+        public void constructorShouldRejectIncorrectRules() {
+            //act & assert
+            Assertions.assertThrows(IncorrectBoardSizeException.class, () -> new BitBoard(2, 2));
+            Assertions.assertThrows(IncorrectBoardSizeException.class, () -> new BitBoard(33, 5));
+            Assertions.assertThrows(IncorrectWinLengthException.class, () -> new BitBoard(10, 11));
+            Assertions.assertThrows(IncorrectWinLengthException.class, () -> new BitBoard(10, 2));
+        }
+    }
+
+    @Nested
+    class hashTests {
+        @Test
+        public void hashShouldBeKeptUpToDateWhenPlacingAndRemoving() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.LARGE);
+            ZobristKeys keys = ZobristKeys.of(board.getCellCount());
+            //act
+            board.place(12, Symbol.X);
+            board.place(3, Symbol.O);
+            board.place(20, Symbol.X);
+            board.remove(20, Symbol.X);
+            //assert
+            Assertions.assertEquals(keys.key(12, Symbol.X) ^ keys.key(3, Symbol.O), board.getHash());
+            Assertions.assertEquals(board.getHash(), board.copy().getHash());
+            board.clear();
+            Assertions.assertEquals(0L, board.getHash());
+        }
+
+        @Test
+        public void canonicalHashShouldBeTheSameInEveryOrientation() {
+            Random random = new Random(18);
+            for(GameBoardSize size : GameBoardSize.values()) {
+                //arrange
+                BoardSymmetries symmetries = new BoardSymmetries(size.getValue());
+                BitBoard position = new BitBoard(size);
+                for(int move = 0; move < size.getValue() + 1; move++) {
+                    position.place(position.getRandomFreeCell(random), move % 2 == 0 ? Symbol.X : Symbol.O);
+                }
+                for(int t = 0; t < BoardSymmetries.TRANSFORMATIONS; t++) {
+                    BitBoard transformed = new BitBoard(size);
+                    for(int cell = 0; cell < position.getCellCount(); cell++) {
+                        if(!position.isEmpty(cell)) transformed.place(symmetries.transformCell(cell, t), position.getSymbol(cell));
+                    }
+                    //act & assert
+                    Assertions.assertEquals(position.getCanonicalHash(), transformed.getCanonicalHash());
+                }
+            }
+        }
+
+        @Test
+        public void canonicalTransformationShouldLeadToTheCanonicalHash() {
+            //arrange
+            BoardSymmetries symmetries = new BoardSymmetries(4);
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            board.place(1, Symbol.X);
+            board.place(7, Symbol.O);
+            board.place(8, Symbol.X);
+            //act
+            int t = board.getCanonicalTransformation();
+            BitBoard canonical = new BitBoard(GameBoardSize.MEDIUM);
+            canonical.place(symmetries.transformCell(1, t), Symbol.X);
+            canonical.place(symmetries.transformCell(7, t), Symbol.O);
+            canonical.place(symmetries.transformCell(8, t), Symbol.X);
+            //assert
+            Assertions.assertEquals(board.getCanonicalHash(), canonical.getHash());
+        }
+    }
+
+    @Nested
+    class freeCellTests {
+        @Test
+        public void freeCellsShouldFollowPlacedAndRemovedSymbols() {
+            //arrange
+            Random random = new Random(17);
+            BitBoard board = new BitBoard(5, 4);
+            int[] played = new int[board.getCellCount()];
+            for(int step = 0; step < 5000; step++) {
+                //act
+                boolean undo = board.isFull() || (board.getMoveCount() > 0 && random.nextInt(3) == 0);
+                if(undo) {
+                    board.remove(played[board.getMoveCount() - 1], Symbol.X);
+                } else {
+                    int cell = board.getRandomFreeCell(random);
+                    played[board.getMoveCount()] = cell;
+                    board.place(cell, Symbol.X);
+                }
+                //assert
+                Assertions.assertEquals(board.getCellCount() - board.getMoveCount(), board.getFreeCellCount());
+                boolean[] seen = new boolean[board.getCellCount()];
+                for(int i = 0; i < board.getFreeCellCount(); i++) {
+                    int cell = board.getFreeCell(i);
+                    Assertions.assertTrue(board.isEmpty(cell));
+                    Assertions.assertFalse(seen[cell]);
+                    seen[cell] = true;
+                }
+            }
+        }
+
+        @Test
+        public void placingAndTakingBackShouldRestoreTheOrderOfFreeCells() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            board.place(5, Symbol.X);
+            board.place(0, Symbol.O);
+            int[] before = new int[board.getFreeCellCount()];
+            for(int i = 0; i < before.length; i++) {
+                before[i] = board.getFreeCell(i);
+            }
+            //act
+            board.place(before[3], Symbol.X);
+            board.place(before[0], Symbol.O);
+            board.remove(before[0], Symbol.O);
+            board.remove(before[3], Symbol.X);
+            //assert
+            for(int i = 0; i < before.length; i++) {
+                Assertions.assertEquals(before[i], board.getFreeCell(i));
+            }
+        }
+
+        @Test
+        public void randomFreeCellShouldBeMinusOneOnFullBoard() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            for(int cell = 0; cell < board.getCellCount(); cell++) {
+                board.place(cell, cell % 2 == 0 ? Symbol.X : Symbol.O);
+            }
+            //act & assert
+            Assertions.assertEquals(-1, board.getRandomFreeCell(new Random(1)));
+        }
+    }
+
+    @Nested
+    class asListTests {
+        @Test
+        public void asListShouldReflectMovesAndBeReadOnly() {
+            //arrange
+            BitBoard board = new BitBoard(GameBoardSize.SMALL);
+            //act
+            board.place(4, Symbol.X);
+            //assert
+            Assertions.assertEquals(9, board.asList().size());
+            Assertions.assertEquals(Symbol.X, board.asList().get(4));
+            Assertions.assertNull(board.asList().get(0));
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> board.asList().set(0, Symbol.O));
+        }
+    }
+}
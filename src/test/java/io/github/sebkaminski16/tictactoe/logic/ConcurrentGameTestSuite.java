@@ -0,0 +1,235 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentGameTestSuite {
+
+    @Nested
+    class insertSymbolIntoCellNTests {
+        @Test
+        public void movesShouldProduceNewSnapshotsAndLeaveOldOnesUnchanged() {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.SMALL, "Player 1", "Player 2");
+            GameSnapshot before = game.getSnapshot();
+            Symbol first = before.getCurrentlyPlayingPlayer().symbol();
+            //act
+            GameSnapshot after = game.insertSymbolIntoCellN(first, 4);
+            //assert
+            Assertions.assertTrue(before.isEmpty(4));
+            Assertions.assertEquals(first, after.getSymbol(4));
+            Assertions.assertEquals(1, after.getMoveCount());
+            Assertions.assertNotEquals(first, after.getCurrentlyPlayingPlayer().symbol());
+            Assertions.assertSame(after, game.getSnapshot());
+        }
+
+        @Test
+        public void outOfTurnMoveShouldBeRejected() {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.SMALL, "Player 1", "Player 2");
+            Symbol second = game.getPlayers().get(1).symbol();
+            //act & assert
+            Assertions.assertThrows(NotPlayersTurnException.class, () -> game.insertSymbolIntoCellN(second, 0));
+            Assertions.assertEquals(0, game.getSnapshot().getMoveCount());
+        }
+
+        @Test
+        public void gameShouldBeWonAndThenRejectMoves() {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.SMALL, "Player 1", "Player 2");
+            //act
+            for(int cell : new int[] {0, 3, 1, 4, 2}) {
+                game.insertSymbolIntoCellN(cell);
+            }
+            //assert
+            GameSnapshot snapshot = game.getSnapshot();
+            Assertions.assertEquals(GameStatus.HAS_WINNER, snapshot.getGameStatus());
+            Assertions.assertEquals(game.getPlayers().getFirst(), snapshot.getWinner());
+            Assertions.assertThrows(GameAlreadyFinishedException.class, () -> game.insertSymbolIntoCellN(8));
+        }
+
+        @Test
+        public void computerShouldAnswerEveryHumanMove() {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.MEDIUM, "Player");
+            //act
+            GameSnapshot snapshot = game.insertSymbolIntoCellN(5);
+            //assert
+            Assertions.assertEquals(2, snapshot.getMoveCount());
+            Assertions.assertEquals(game.getPlayers().getFirst(), snapshot.getCurrentlyPlayingPlayer());
+        }
+
+        @Test
+        public void computerSymbolShouldNotBePlayedByOthers() {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.MEDIUM, "Player");
+            Symbol computer = game.getPlayers().get(1).symbol();
+            //act & assert
+            Assertions.assertThrows(NotPlayersTurnException.class, () -> game.insertSymbolIntoCellN(computer, 0));
+            Assertions.assertEquals(0, game.getSnapshot().getMoveCount());
+        }
+    }
+
+    @Nested
+    class concurrencyTests {
+        @Test
+        public void onlyOneOfManyRacingMovesShouldBeAccepted() throws Exception {
+            //arrange
+            for(int round = 0; round < 200; round++) {
+                ConcurrentGame game = new ConcurrentGame(GameBoardSize.LARGE, "Player 1", "Player 2");
+                Symbol first = game.getSnapshot().getCurrentlyPlayingPlayer().symbol();
+                AtomicInteger accepted = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                try(ExecutorService threads = Executors.newFixedThreadPool(4)) {
+                    for(int thread = 0; thread < 4; thread++) {
+                        int cell = thread;
+                        threads.execute(() -> {
+                            try {
+                                start.await();
+                                game.insertSymbolIntoCellN(first, cell);
+                                accepted.incrementAndGet();
+                            } catch(NotPlayersTurnException e) {
+                                //lost the race
+                            } catch(InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+                    }
+                    //act
+                    start.countDown();
+                }
+                //assert
+                Assertions.assertEquals(1, accepted.get());
+                Assertions.assertEquals(1, game.getSnapshot().getMoveCount());
+            }
+        }
+
+        @Test
+        public void racingMovesAgainstComputerShouldEachBeAnsweredOrRejected() throws Exception {
+            //arrange
+            for(int round = 0; round < 100; round++) {
+                ConcurrentGame game = new ConcurrentGame(GameBoardSize.LARGE, "Player");
+                AtomicInteger accepted = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                try(ExecutorService threads = Executors.newFixedThreadPool(4)) {
+                    for(int thread = 0; thread < 4; thread++) {
+                        int firstCell = thread;
+                        threads.execute(() -> {
+                            try {
+                                start.await();
+                                for(int cell = firstCell; cell < 25; cell += 4) {
+                                    try {
+                                        GameSnapshot snapshot = game.insertSymbolIntoCellN(cell);
+                                        //the caller gets the state with the computer's answer
+                                        if(snapshot.getGameStatus() == GameStatus.UNSETTLED && snapshot.getMoveCount() % 2 != 0) return;
+                                        accepted.incrementAndGet();
+                                    } catch(CellAlreadyTakenException | GameAlreadyFinishedException e) {
+                                        //rejected before anything was published
+                                    } catch(NotPlayersTurnException e) {
+                                        //the computer is still answering another move - the same cell again
+                                        cell -= 4;
+                                        Thread.yield();
+                                    }
+                                }
+                            } catch(InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+                    }
+                    //act
+                    start.countDown();
+                }
+                //assert
+                GameSnapshot snapshot = game.getSnapshot();
+                int plies = snapshot.getMoveCount();
+                Assertions.assertTrue(plies == accepted.get() * 2 || plies == accepted.get() * 2 - 1);
+                Assertions.assertNotEquals(GameStatus.UNSETTLED, snapshot.getGameStatus());
+            }
+        }
+
+        @Test
+        public void computerStrategyShouldNeverRunOnTwoThreadsAtOnce() throws Exception {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(GameBoardSize.LARGE, "Player");
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            AtomicInteger searches = new AtomicInteger();
+            RandomMoveStrategy random = new RandomMoveStrategy();
+            game.setComputerStrategy((board, symbol) -> {
+                if(running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                searches.incrementAndGet();
+                Thread.yield();
+                running.decrementAndGet();
+                return random.chooseCell(board, symbol);
+            });
+            CountDownLatch start = new CountDownLatch(1);
+            //act
+            try(ExecutorService threads = Executors.newFixedThreadPool(4)) {
+                for(int thread = 0; thread < 4; thread++) {
+                    threads.execute(() -> {
+                        try {
+                            start.await();
+                            for(int cell = 0; cell < 25; cell++) {
+                                try {
+                                    game.insertSymbolIntoCellN(cell);
+                                } catch(CellAlreadyTakenException | GameAlreadyFinishedException | NotPlayersTurnException e) {
+                                    //another thread got there first
+                                }
+                            }
+                        } catch(InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                }
+                start.countDown();
+            }
+            //assert
+            GameSnapshot snapshot = game.getSnapshot();
+            Assertions.assertEquals(0, overlaps.get());
+            Assertions.assertEquals(snapshot.getMoveCount() / 2, searches.get());
+        }
+
+        @Test
+        public void bothPlayersMovingFromTheirOwnThreadsShouldAlternate() throws Exception {
+            //arrange
+            ConcurrentGame game = new ConcurrentGame(19, 5, "Player 1", "Player 2");
+            List<Future<Integer>> results = new ArrayList<>();
+            //act
+            try(ExecutorService threads = Executors.newFixedThreadPool(2)) {
+                for(Player player : game.getPlayers()) {
+                    results.add(threads.submit(() -> {
+                        int moves = 0;
+                        int cell = player == game.getPlayers().getFirst() ? 0 : 1;
+                        while(game.getSnapshot().getGameStatus() == GameStatus.UNSETTLED) {
+                            try {
+                                game.insertSymbolIntoCellN(player.symbol(), cell);
+                                moves++;
+                                cell += 2;
+                            } catch(NotPlayersTurnException | GameAlreadyFinishedException e) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                        return moves;
+                    }));
+                }
+            }
+            //assert
+            GameSnapshot snapshot = game.getSnapshot();
+            int firstMoves = results.get(0).get();
+            int secondMoves = results.get(1).get();
+            Assertions.assertEquals(snapshot.getMoveCount(), firstMoves + secondMoves);
+            Assertions.assertTrue(firstMoves == secondMoves || firstMoves == secondMoves + 1);
+            Assertions.assertEquals(snapshot.getGameStatus() == GameStatus.HAS_WINNER,
+                    snapshot.toBitBoard().hasLine(game.getPlayers().getFirst().symbol()) || snapshot.toBitBoard().hasLine(game.getPlayers().get(1).symbol()));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.sebkaminski16.tictactoe.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class EngineMetricsTestSuite {
+    private final EngineMetrics metrics = EngineMetrics.get();
+
+    @BeforeEach
+    public void beforeEach() {
+        //arrange
+        EngineMetrics.disable();
+        this.metrics.reset();
+    }
+
+    @Nested
+    class recordingTests {
+        @Test
+        public void nothingShouldBeRecordedWhileDisabled() {
+            //arrange
+            Game game = new Game();
+            game.configure(GameBoardSize.SMALL, "A", "B");
+            //act
+            game.insertSymbolIntoCellN(0);
+            Assertions.assertThrows(CellAlreadyTakenException.class, () -> game.insertSymbolIntoCellN(0));
+            //assert
+            Assertions.assertEquals(0, metrics.getMovesApplied());
+            Assertions.assertTrue(metrics.getExceptionCounts().isEmpty());
+        }
+
+        @Test
+        public void movesGamesAndExceptionsShouldBeCounted() {
+            //arrange
+            Game game = new Game();
+            game.configure(GameBoardSize.SMALL, "A", "B");
+            EngineMetrics.enable();
+            try {
+                //act
+                for(int cell : new int[] {0, 3, 1, 4, 2}) {
+                    game.insertSymbolIntoCellN(cell);
+                }
+                Assertions.assertThrows(GameAlreadyFinishedException.class, () -> game.insertSymbolIntoCellN(5));
+                game.reset();
+                game.insertSymbolIntoCellN(4);
+                Assertions.assertThrows(CellAlreadyTakenException.class, () -> game.insertSymbolIntoCellN(4));
+                Assertions.assertThrows(CellAlreadyTakenException.class, () -> game.insertSymbolIntoCellN(4));
+            } finally {
+                EngineMetrics.disable();
+            }
+            //assert
+            Assertions.assertEquals(6, metrics.getMovesApplied());
+            Assertions.assertEquals(1, metrics.getGamesFinished());
+            Assertions.assertEquals(2L, metrics.getExceptionCounts().get("CellAlreadyTakenException"));
+            Assertions.assertEquals(1L, metrics.getExceptionCounts().get("GameAlreadyFinishedException"));
+            Assertions.assertTrue(metrics.getWinCheckP99Nanos() > 0);
+        }
+
+        @Test
+        public void computerMovesShouldBeTimed() {
+            //arrange
+            Game game = new Game();
+            game.configure(GameBoardSize.SMALL, "A");
+            EngineMetrics.enable();
+            try {
+                //act
+                game.insertSymbolIntoCellN(4);
+            } finally {
+                EngineMetrics.disable();
+            }
+            //assert
+            Assertions.assertEquals(1, metrics.getComputerMoves());
+            Assertions.assertEquals(2, metrics.getMovesApplied());
+        }
+
+        @Test
+        public void searchesShouldReportNodesAndCacheHitRate() {
+            //arrange
+            EngineMetrics.recordSearch(1000, 200, 50);
+            EngineMetrics.recordSearch(500, 200, 150);
+            //act
+            String snapshot = metrics.getSnapshot();
+            //assert
+            Assertions.assertEquals(1500, metrics.getNodesSearched());
+            Assertions.assertEquals(0.5, metrics.getCacheHitRate(), 1e-9);
+            Assertions.assertTrue(snapshot.contains("search.nodes 1500\n"));
+            Assertions.assertTrue(snapshot.contains("cache.probes 400\n"));
+        }
+
+        @Test
+        public void metricsShouldBeVisibleOverJmx() throws Exception {
+            //arrange
+            EngineMetrics.registerMBean();
+            EngineMetrics.registerMBean();
+            EngineMetrics.recordSearch(42, 0, 0);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            //act
+            Object nodes = server.getAttribute(new ObjectName(EngineMetrics.OBJECT_NAME), "NodesSearched");
+            //assert
+            Assertions.assertEquals(42L, nodes);
+        }
+    }
+
+    @Nested
+    class latencyHistogramTests {
+        @Test
+        public void percentileShouldBeWithinOneBucketOfTheRealValue() {
+            //arrange
+            LatencyHistogram histogram = new LatencyHistogram();
+            //act
+            for(long value = 1; value <= 100_000; value++) {
+                histogram.record(value * 1000);
+            }
+            //assert
+            Assertions.assertEquals(100_000, histogram.getCount());
+            long p99 = histogram.getValueAtPercentile(99);
+            Assertions.assertTrue(p99 >= 99_000_000L && p99 <= 99_000_000L * 9 / 8, "p99 = " + p99);
+            Assertions.assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+        }
+
+        @Test
+        public void everyValueShouldFallIntoBucketCoveringIt() {
+            //arrange
+            long[] values = {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE};
+            for(long value : values) {
+                //act
+                int bucket = LatencyHistogram.bucket(value);
+                //assert
+                Assertions.assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+                Assertions.assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+            }
+        }
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameTestSuite {
     private Game game;
 
@@ -76,6 +79,110 @@ public class GameTestSuite {
             Assertions.assertNull(game.getWinner());
             Assertions.assertEquals(GameStatus.UNSETTLED, game.getGameStatus());
         }
+
+        @Test
+        public void configureCalledAgainShouldReplacePlayersAndReuseBoard() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            game.insertSymbolIntoCellN(0);
+            game.insertSymbolIntoCellN(3);
+            game.insertSymbolIntoCellN(1);
+            game.insertSymbolIntoCellN(4);
+            game.insertSymbolIntoCellN(2);
+            List<Symbol> board = game.getGameBoard();
+            //act
+            game.configure(GameBoardSize.SMALL, "Player3");
+            //assert
+            Assertions.assertEquals(2, game.getPlayers().size());
+            Assertions.assertEquals("Player3", game.getPlayers().getFirst().name());
+            Assertions.assertEquals("Computer", game.getPlayers().get(1).name());
+            Assertions.assertEquals(GameMode.COMPUTER_VS_HUMAN, game.getGameMode());
+            Assertions.assertEquals(GameStatus.UNSETTLED, game.getGameStatus());
+            Assertions.assertNull(game.getWinner());
+            Assertions.assertEquals("Player3", game.getCurrentlyPlayingPlayer().name());
+            Assertions.assertSame(board, game.getGameBoard());
+            Assertions.assertTrue(board.stream().allMatch(cell -> cell == null));
+        }
+
+        @Test
+        public void configureCalledAgainWithOtherSizeShouldResizeBoard() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            //act
+            game.configure(GameBoardSize.LARGE, "Player1", "Player2");
+            //assert
+            Assertions.assertEquals(25, game.getGameBoard().size());
+            Assertions.assertEquals(5, game.getCellsInRow());
+        }
+    }
+
+    @Nested
+    class kInARowTests {
+        @Test
+        public void configureShouldSetUpBoardWithCustomRules() {
+            //act
+            game.configure(15, 5, "Player 1", "Player 2");
+            //assert
+            Assertions.assertEquals(15, game.getCellsInRow());
+            Assertions.assertEquals(5, game.getWinLength());
+            Assertions.assertEquals(225, game.getGameBoard().size());
+        }
+
+        @Test
+        public void configureThrowsExceptionIfRulesAreIncorrect() {
+            //act & assert
+            Assertions.assertThrows(IncorrectBoardSizeException.class, () -> game.configure(40, 5, "Player 1", "Player 2"));
+            Assertions.assertThrows(IncorrectWinLengthException.class, () -> game.configure(15, 16, "Player 1", "Player 2"));
+            Assertions.assertFalse(game.isConfigured());
+        }
+
+        @Test
+        public void fiveInAColumnShouldWinOnLargeBoard() {
+            //arrange
+            game.configure(15, 5, "Player 1", "Player 2");
+            Player first = game.getCurrentlyPlayingPlayer();
+            //act
+            for(int i = 0; i < 4; i++) {
+                game.insertSymbolIntoCellN(i * 15 + 3);
+                game.insertSymbolIntoCellN(i * 15 + 10);
+            }
+            game.insertSymbolIntoCellN(4 * 15 + 3);
+            //assert
+            Assertions.assertEquals(GameStatus.HAS_WINNER, game.getGameStatus());
+            Assertions.assertEquals(first, game.getWinner());
+        }
+    }
+
+    @Nested
+    class moveHistoryTests {
+        @Test
+        public void movesShouldBeRecordedInOrderAndClearedOnReset() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player 1", "Player 2");
+            //act
+            game.insertSymbolIntoCellN(4);
+            game.insertSymbolIntoCellN(0);
+            game.insertSymbolIntoCellN(8);
+            //assert
+            Assertions.assertEquals(3, game.getMoveCount());
+            Assertions.assertEquals(4, game.getMove(0));
+            Assertions.assertEquals(0, game.getMove(1));
+            Assertions.assertEquals(8, game.getMove(2));
+            Assertions.assertThrows(MoveIndexOutOfBoundsException.class, () -> game.getMove(3));
+            game.reset();
+            Assertions.assertEquals(0, game.getMoveCount());
+        }
+
+        @Test
+        public void configureShouldGivePlayer1TheRequestedSymbol() {
+            for(Symbol symbol : Symbol.values()) {
+                //act
+                game.configure(3, 3, symbol, "Player 1", "Player 2");
+                //assert
+                Assertions.assertEquals(symbol, game.getPlayers().getFirst().symbol());
+                Assertions.assertNotEquals(symbol, game.getPlayers().get(1).symbol());
+            }
+        }
     }
 
     @Nested
@@ -241,4 +348,357 @@ public class GameTestSuite {
             Assertions.assertThrows(GameAlreadyFinishedException.class, () -> game.insertSymbolIntoCellN(0));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class resetTests {
+        @Test
+        public void resetShouldThrowExceptionIfGameHadNotBeenConfigured() {
+            //act & assert
+            Assertions.assertThrows(GameNotConfiguredException.class, () -> game.reset());
+        }
+
+        @Test
+        public void resetShouldStartNewGameWithSamePlayers() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            Player player1 = game.getPlayers().getFirst();
+            game.insertSymbolIntoCellN(0);
+            game.insertSymbolIntoCellN(3);
+            game.insertSymbolIntoCellN(1);
+            game.insertSymbolIntoCellN(4);
+            game.insertSymbolIntoCellN(2);
+            //act
+            game.reset();
+            //assert
+            Assertions.assertEquals(GameStatus.UNSETTLED, game.getGameStatus());
+            Assertions.assertNull(game.getWinner());
+            Assertions.assertSame(player1, game.getCurrentlyPlayingPlayer());
+            Assertions.assertSame(player1, game.getPlayers().getFirst());
+            Assertions.assertEquals(2, game.getPlayers().size());
+            Assertions.assertTrue(game.getGameBoard().stream().allMatch(cell -> cell == null));
+            game.insertSymbolIntoCellN(0);
+            Assertions.assertEquals(player1.symbol(), game.getGameBoard().getFirst());
+        }
+    }
+
+    @Nested
+    class insertSymbolChosenByTests {
+        @Test
+        public void insertSymbolChosenByShouldPlayTheChosenCellForCurrentPlayer() {
+            //arrange
+            game.configure(GameBoardSize.MEDIUM, "Player1", "Player2");
+            Symbol symbol = game.getCurrentlyPlayingPlayer().symbol();
+            //act
+            game.insertSymbolChosenBy((board, toMove) -> 5);
+            //assert
+            Assertions.assertEquals(symbol, game.getGameBoard().get(5));
+            Assertions.assertEquals("Player2", game.getCurrentlyPlayingPlayer().name());
+        }
+
+        @Test
+        public void insertSymbolChosenByShouldValidateTheChosenCell() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            game.insertSymbolIntoCellN(4);
+            //act & assert
+            Assertions.assertThrows(CellAlreadyTakenException.class, () -> game.insertSymbolChosenBy((board, toMove) -> 4));
+        }
+    }
+
+    @Nested
+    class tryMoveTests {
+        @Test
+        public void tryMoveShouldReportIllegalMovesWithoutChangingTheGame() {
+            //arrange
+            int notConfigured = game.tryMove(0);
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            game.tryMove(4);
+            //act
+            int outOfBounds = game.tryMove(9);
+            int negative = game.tryMove(-1);
+            int taken = game.tryMove(4);
+            //assert
+            Assertions.assertEquals(MoveResult.NOT_CONFIGURED, notConfigured);
+            Assertions.assertEquals(MoveResult.CELL_OUT_OF_BOUNDS, outOfBounds);
+            Assertions.assertEquals(MoveResult.CELL_OUT_OF_BOUNDS, negative);
+            Assertions.assertEquals(MoveResult.CELL_TAKEN, taken);
+            Assertions.assertEquals(1, game.getMoveCount());
+            Assertions.assertEquals("Player2", game.getCurrentlyPlayingPlayer().name());
+        }
+
+        @Test
+        public void tryMoveShouldPlayLikeInsertSymbolIntoCellN() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1");
+            //act
+            int result = game.tryMove(4);
+            //assert
+            Assertions.assertEquals(MoveResult.ACCEPTED, result);
+            Assertions.assertEquals(2, game.getMoveCount());
+            Assertions.assertEquals("Player1", game.getCurrentlyPlayingPlayer().name());
+        }
+
+        @Test
+        public void tryMoveShouldReportFinishedGame() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            for(int cell : new int[] {0, 3, 1, 4, 2}) {
+                game.tryMove(cell);
+            }
+            //act & assert
+            Assertions.assertEquals(MoveResult.GAME_FINISHED, game.tryMove(5));
+            Assertions.assertEquals(MoveResult.describe(MoveResult.GAME_FINISHED, 9),
+                    Assertions.assertThrows(GameAlreadyFinishedException.class, () -> game.insertSymbolIntoCellN(5)).getMessage());
+        }
+
+        @Test
+        public void illegalMoveExceptionsShouldHaveNoStackTrace() {
+            //arrange
+            game.configure(GameBoardSize.SMALL, "Player1", "Player2");
+            //act
+            CellNumberOutOfBoundsException exception = Assertions.assertThrows(CellNumberOutOfBoundsException.class, () -> game.insertSymbolIntoCellN(9));
+            //assert
+            Assertions.assertEquals(0, exception.getStackTrace().length);
+            Assertions.assertEquals("Incorrect cell number! Cell number should be from range [0-8]", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class gamePoolTests {
+        @Test
+        public void acquiredGameShouldBeConfiguredAndReleasedGameShouldBeReused() {
+            //arrange
+            GamePool pool = new GamePool(2, GameBoardSize.MEDIUM, "Player1", "Player2");
+            //act
+            Game pooled = pool.acquire();
+            pooled.insertSymbolIntoCellN(0);
+            pool.release(pooled);
+            Game reused = pool.acquire();
+            //assert
+            Assertions.assertSame(pooled, reused);
+            Assertions.assertTrue(reused.isConfigured());
+            Assertions.assertEquals(4, reused.getCellsInRow());
+            Assertions.assertNull(reused.getGameBoard().getFirst());
+            Assertions.assertEquals(GameStatus.UNSETTLED, reused.getGameStatus());
+        }
+
+        @Test
+        public void emptyPoolShouldCreateNewGame() {
+            //arrange
+            GamePool pool = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            Game first = pool.acquire();
+            //act
+            Game second = pool.acquire();
+            //assert
+            Assertions.assertNotSame(first, second);
+            Assertions.assertEquals(0, pool.getAvailable());
+            Assertions.assertEquals(GameMode.COMPUTER_VS_HUMAN, second.getGameMode());
+        }
+
+        @Test
+        public void releaseShouldRejectGameOfOtherSize() {
+            //arrange
+            GamePool pool = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            game.configure(GameBoardSize.LARGE, "Player1");
+            //act & assert
+            Assertions.assertThrows(GameNotFromPoolException.class, () -> pool.release(game));
+        }
+
+        @Test
+        public void releaseShouldRejectGamesOfOtherPoolsAndSecondRelease() {
+            //arrange
+            GamePool pool = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            GamePool other = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            Game otherGame = other.acquire();
+            Game pooled = pool.acquire();
+            game.configure(GameBoardSize.SMALL, "Player1");
+            //act
+            pool.release(pooled);
+            //assert
+            Assertions.assertThrows(GameNotFromPoolException.class, () -> pool.release(game));
+            Assertions.assertThrows(GameNotFromPoolException.class, () -> pool.release(otherGame));
+            Assertions.assertThrows(GameNotFromPoolException.class, () -> pool.release(pooled));
+            Assertions.assertEquals(1, pool.getAvailable());
+        }
+
+        @Test
+        public void releaseShouldRestorePlayersChangedByBorrower() {
+            //arrange
+            GamePool pool = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            Game pooled = pool.acquire();
+            pooled.configure(GameBoardSize.SMALL, "Other", "Player2");
+            //act
+            pool.release(pooled);
+            Game reused = pool.acquire();
+            //assert
+            Assertions.assertSame(pooled, reused);
+            Assertions.assertEquals(GameMode.COMPUTER_VS_HUMAN, reused.getGameMode());
+            Assertions.assertEquals("Player1", reused.getPlayers().get(0).name());
+            Assertions.assertEquals("Computer", reused.getPlayers().get(1).name());
+        }
+
+        @Test
+        public void releaseShouldClearListenersAndComputerStrategy() {
+            //arrange
+            GamePool pool = new GamePool(1, GameBoardSize.SMALL, "Player1");
+            Game pooled = pool.acquire();
+            List<Integer> cells = new ArrayList<>();
+            pooled.addListener((moveIndex, cell, symbol, status, winner) -> cells.add(cell));
+            MoveStrategy firstFreeCell = (board, symbol) -> board.getFreeCell(0);
+            pooled.setComputerStrategy(firstFreeCell);
+            pooled.configure(GameBoardSize.MEDIUM, "Player1");
+            //act
+            pool.release(pooled);
+            Game reused = pool.acquire();
+            reused.insertSymbolIntoCellN(4);
+            //assert
+            Assertions.assertSame(pooled, reused);
+            Assertions.assertTrue(cells.isEmpty());
+            Assertions.assertNotSame(firstFreeCell, reused.getComputerStrategy());
+            Assertions.assertEquals(3, reused.getCellsInRow());
+        }
+    }
+
+    @Nested
+    class randomTests {
+        private List<Symbol> playAgainstComputer(Game seeded) {
+            seeded.configure(GameBoardSize.LARGE, "Player1");
+            while(seeded.getGameStatus() == GameStatus.UNSETTLED) {
+                seeded.tryMove(seeded.getGameBoard().indexOf(null));
+            }
+            return seeded.getGameBoard();
+        }
+
+        @Test
+        public void sameSeedShouldRepeatWholeGame() {
+            //act
+            List<Symbol> first = playAgainstComputer(new Game(7));
+            List<Symbol> second = playAgainstComputer(new Game(7));
+            //assert
+            Assertions.assertEquals(first, second);
+        }
+
+        @Test
+        public void splitGamesShouldBeRepeatable() {
+            //arrange
+            Game first = new Game(7);
+            Game second = new Game(7);
+            //act
+            List<Symbol> firstSplit = playAgainstComputer(first.split());
+            List<Symbol> secondSplit = playAgainstComputer(second.split());
+            //assert
+            Assertions.assertEquals(firstSplit, secondSplit);
+        }
+
+        @Test
+        public void nullRandomGeneratorShouldBeRejected() {
+            //act & assert
+            Assertions.assertThrows(RandomGeneratorIsNullException.class, () -> new Game(null));
+        }
+    }
+
+    @Nested
+    class listenerTests {
+        @Test
+        public void listenerShouldBeToldAboutEveryMove() {
+            //arrange
+            List<String> events = new ArrayList<>();
+            GameListener listener = new GameListener() {
+                @Override
+                public void gameStarted(Game started) {
+                    events.add("start " + started.getCellsInRow());
+                }
+
+                @Override
+                public void movePlayed(int moveIndex, int cell, Symbol symbol, GameStatus status, Player winner) {
+                    events.add(moveIndex + " " + cell + " " + symbol + " " + status + " " + (winner == null ? "-" : winner.name()));
+                }
+            };
+            game.addListener(listener);
+            game.configure(3, 3, Symbol.X, "Player1", "Player2");
+            //act
+            for(int cell : new int[] {0, 3, 1, 4, 2}) {
+                game.insertSymbolIntoCellN(cell);
+            }
+            game.removeListener(listener);
+            game.reset();
+            //assert
+            Assertions.assertEquals(List.of("start 3", "0 0 X UNSETTLED -", "1 3 O UNSETTLED -", "2 1 X UNSETTLED -",
+                    "3 4 O UNSETTLED -", "4 2 X HAS_WINNER Player1"), events);
+        }
+
+        @Test
+        public void bufferShouldReplayPackedEvents() {
+            //arrange
+            GameEventBuffer buffer = new GameEventBuffer(8);
+            GameEventBuffer.Reader reader = buffer.newReader();
+            game.addListener(buffer);
+            game.configure(3, 3, Symbol.O, "Player1", "Player2");
+            game.insertSymbolIntoCellN(8);
+            long[] events = new long[4];
+            //act
+            int count = reader.poll(events);
+            //assert
+            Assertions.assertEquals(2, count);
+            Assertions.assertEquals(GameEvent.STARTED, GameEvent.kind(events[0]));
+            Assertions.assertEquals(3, GameEvent.cellsInRow(events[0]));
+            Assertions.assertEquals(GameEvent.MOVE, GameEvent.kind(events[1]));
+            Assertions.assertEquals(8, GameEvent.cell(events[1]));
+            Assertions.assertEquals(Symbol.O, GameEvent.symbol(events[1]));
+            Assertions.assertEquals(GameStatus.UNSETTLED, GameEvent.status(events[1]));
+            Assertions.assertNull(GameEvent.winner(events[1]));
+            Assertions.assertEquals(0, reader.poll(events));
+        }
+
+        @Test
+        public void slowReaderShouldLoseOldestEvents() {
+            //arrange
+            GameEventBuffer buffer = new GameEventBuffer(4);
+            GameEventBuffer.Reader reader = buffer.newReader();
+            game.addListener(buffer);
+            game.configure(3, 3, Symbol.X, "Player1", "Player2");
+            for(int cell : new int[] {0, 1, 2, 4, 3, 5}) {
+                game.insertSymbolIntoCellN(cell);
+            }
+            long[] events = new long[8];
+            //act
+            int count = reader.poll(events);
+            //assert
+            Assertions.assertEquals(3, count);
+            Assertions.assertEquals(4, reader.getLost());
+            Assertions.assertEquals(3, GameEvent.moveIndex(events[0]));
+            Assertions.assertEquals(5, GameEvent.cell(events[2]));
+            Assertions.assertThrows(IncorrectEventBufferCapacityException.class, () -> new GameEventBuffer(6));
+        }
+
+        @Test
+        public void readerOnOtherThreadShouldOnlyGetIntactEvents() throws InterruptedException {
+            //arrange
+            GameEventBuffer buffer = new GameEventBuffer(8);
+            GameEventBuffer.Reader reader = buffer.newReader();
+            int total = 200_000;
+            Thread writer = new Thread(() -> {
+                for(int i = 0; i < total; i++) {
+                    buffer.movePlayed(i & 0xFFFF, (i * 7) & 0xFFFF, Symbol.X, GameStatus.UNSETTLED, null);
+                }
+            });
+            long[] events = new long[5];
+            long received = 0;
+            int corrupted = 0;
+            //act
+            writer.start();
+            while(writer.isAlive() || reader.getNext() < total) {
+                int count = reader.poll(events);
+                for(int i = 0; i < count; i++) {
+                    long sequence = reader.getNext() - count + i;
+                    if(GameEvent.moveIndex(events[i]) != (sequence & 0xFFFF) || GameEvent.cell(events[i]) != ((sequence * 7) & 0xFFFF)) corrupted++;
+                }
+                received += count;
+            }
+            writer.join();
+            //assert
+            Assertions.assertEquals(0, corrupted);
+            Assertions.assertEquals(total, received + reader.getLost());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class GameArchiveTestSuite {
+    private static final String[] NAMES = {"Alice", "Bob", "Carol", "Dave"};
+
+    private final List<Game> games = new ArrayList<>();
+    private GameArchive archive;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        //arrange
+        Random random = new Random(14);
+        RandomMoveStrategy strategy = new RandomMoveStrategy();
+        Path log = Files.createTempFile("games", ".log");
+        Files.delete(log);
+        try(GameLogWriter writer = new GameLogWriter(log)) {
+            for(int i = 0; i < 2000; i++) {
+                Game game = new Game();
+                int first = random.nextInt(NAMES.length);
+                int second = (first + 1 + random.nextInt(NAMES.length - 1)) % NAMES.length;
+                int cellsInRow = new int[] {3, 4, 5, 17}[i % 4];
+                game.configure(cellsInRow, Math.min(cellsInRow, 5), NAMES[first], NAMES[second]);
+                //some games are left unfinished
+                int moves = random.nextInt(10) == 0 ? 2 : Integer.MAX_VALUE;
+                while(game.getGameStatus() == GameStatus.UNSETTLED && game.getMoveCount() < moves) {
+                    game.insertSymbolChosenBy(strategy);
+                }
+                writer.append(game);
+                this.games.add(game);
+            }
+        }
+        Path file = Files.createTempFile("games", ".archive");
+        GameArchiveBuilder.fromLog(log, file);
+        this.archive = GameArchive.open(file);
+        Files.delete(log);
+        file.toFile().deleteOnExit();
+    }
+
+    private static int[] toArray(IntBuffer list) {
+        int[] games = new int[list.remaining()];
+        list.duplicate().get(games);
+        return games;
+    }
+
+    @Nested
+    class queryTests {
+        @Test
+        public void indexesShouldMatchFullScan() {
+            //act & assert
+            Assertions.assertEquals(games.size(), archive.getGameCount());
+            for(String name : NAMES) {
+                int[] played = IntStream.range(0, games.size())
+                        .filter(i -> games.get(i).getPlayers().stream().anyMatch(player -> player.name().equals(name))).toArray();
+                int[] won = IntStream.range(0, games.size())
+                        .filter(i -> games.get(i).getWinner() != null && games.get(i).getWinner().name().equals(name)).toArray();
+                Assertions.assertArrayEquals(played, toArray(archive.gamesPlayedBy(name)));
+                Assertions.assertArrayEquals(won, toArray(archive.gamesWonBy(name)));
+            }
+            for(GameStatus status : GameStatus.values()) {
+                int[] expected = IntStream.range(0, games.size()).filter(i -> games.get(i).getGameStatus() == status).toArray();
+                Assertions.assertArrayEquals(expected, toArray(archive.gamesEndingIn(status)));
+            }
+            int[] expected = IntStream.range(0, games.size()).filter(i -> games.get(i).getCellsInRow() == 17).toArray();
+            Assertions.assertArrayEquals(expected, toArray(archive.gamesOnBoard(17)));
+            Assertions.assertEquals(0, archive.gamesPlayedBy("Nobody").remaining());
+        }
+
+        @Test
+        public void intersectShouldCombineIndexes() {
+            //act
+            int[] ties = GameArchive.intersect(archive.gamesOnBoard(4), archive.gamesEndingIn(GameStatus.TIE), archive.gamesPlayedBy("Alice"));
+            //assert
+            int[] expected = IntStream.range(0, games.size())
+                    .filter(i -> games.get(i).getCellsInRow() == 4 && games.get(i).getGameStatus() == GameStatus.TIE)
+                    .filter(i -> games.get(i).getPlayers().stream().anyMatch(player -> player.name().equals("Alice"))).toArray();
+            Assertions.assertArrayEquals(expected, ties);
+        }
+    }
+
+    @Nested
+    class buildTests {
+        @Test
+        public void failedBuildShouldLeaveNoTemporaryFiles() throws IOException {
+            //arrange
+            Path directory = Files.createTempDirectory("archive");
+            Path target = directory.resolve("games.archive");
+            Files.createDirectory(target);
+            Files.createFile(target.resolve("blocker"));
+            //act
+            try(GameArchiveBuilder builder = new GameArchiveBuilder(target)) {
+                builder.add(GameRecord.of(games.getFirst()));
+                Assertions.assertThrows(IOException.class, builder::build);
+            }
+            //assert
+            try(Stream<Path> files = Files.list(directory)) {
+                Assertions.assertEquals(List.of(target), files.toList());
+            } finally {
+                Files.delete(target.resolve("blocker"));
+                Files.delete(target);
+                Files.delete(directory);
+            }
+        }
+    }
+
+    @Nested
+    class recordTests {
+        @Test
+        public void recordsShouldHoldEveryGameAndReplay() {
+            for(int i = 0; i < games.size(); i++) {
+                //act
+                Game game = games.get(i);
+                Game replayed = GameLogReader.replay(archive.getRecord(i));
+                //assert
+                Assertions.assertEquals(game.getPlayers().get(0).name(), archive.getPlayer1Name(i));
+                Assertions.assertEquals(game.getCellsInRow(), archive.getCellsInRow(i));
+                Assertions.assertEquals(game.getWinLength(), archive.getWinLength(i));
+                Assertions.assertEquals(game.getGameStatus(), archive.getGameStatus(i));
+                Assertions.assertEquals(game.getWinner() == null ? null : game.getWinner().name(), archive.getWinnerName(i));
+                Assertions.assertEquals(game.getMoveCount(), archive.getMoveCount(i));
+                Assertions.assertEquals(game.getGameBoard(), replayed.getGameBoard());
+                Assertions.assertEquals(game.getPlayers(), replayed.getPlayers());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.sebkaminski16.tictactoe.persistence;
+
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.GameStatus;
+import io.github.sebkaminski16.tictactoe.logic.RandomMoveStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameLogTestSuite {
+
+    private static Game playRandomGame(int cellsInRow, int winLength, String... playerNames) {
+        Game game = new Game();
+        game.configure(cellsInRow, winLength, playerNames);
+        RandomMoveStrategy strategy = new RandomMoveStrategy();
+        while(game.getGameStatus() == GameStatus.UNSETTLED) {
+            game.insertSymbolChosenBy(strategy);
+        }
+        return game;
+    }
+
+    private static void assertSameGame(Game expected, Game actual) {
+        Assertions.assertEquals(expected.getPlayers(), actual.getPlayers());
+        Assertions.assertEquals(expected.getGameMode(), actual.getGameMode());
+        Assertions.assertEquals(expected.getGameStatus(), actual.getGameStatus());
+        Assertions.assertEquals(expected.getWinner(), actual.getWinner());
+        Assertions.assertEquals(expected.getGameBoard(), actual.getGameBoard());
+        Assertions.assertEquals(expected.getWinLength(), actual.getWinLength());
+    }
+
+    @Nested
+    class roundTripTests {
+        @Test
+        public void loggedGamesShouldBeReplayedExactly() throws IOException {
+            //arrange
+            Path file = Files.createTempFile("games", ".log");
+            Files.delete(file);
+            List<Game> games = new ArrayList<>();
+            for(int i = 0; i < 300; i++) {
+                games.add(switch(i % 3) {
+                    case 0 -> playRandomGame(3, 3, "Alice", "Bob");
+                    case 1 -> playRandomGame(4, 4, "Żaneta");
+                    default -> playRandomGame(19, 5, "Alice", "Bob");
+                });
+            }
+            //act
+            try(GameLogWriter writer = new GameLogWriter(file)) {
+                for(Game game : games) {
+                    writer.append(game);
+                }
+            }
+            List<Game> replayed = new ArrayList<>();
+            try(GameLogReader reader = new GameLogReader(file)) {
+                GameRecord record;
+                while((record = reader.next()) != null) {
+                    replayed.add(GameLogReader.replay(record));
+                }
+            }
+            //assert
+            Assertions.assertEquals(games.size(), replayed.size());
+            for(int i = 0; i < games.size(); i++) {
+                assertSameGame(games.get(i), replayed.get(i));
+            }
+            Files.delete(file);
+        }
+
+        @Test
+        public void writerShouldAppendToExistingLog() throws IOException {
+            //arrange
+            Path file = Files.createTempFile("games", ".log");
+            Files.delete(file);
+            Game first = playRandomGame(3, 3, "Alice", "Bob");
+            Game second = playRandomGame(3, 3, "Carol", "Dave");
+            try(GameLogWriter writer = new GameLogWriter(file)) {
+                writer.append(first);
+            }
+            //act
+            try(GameLogWriter writer = new GameLogWriter(file)) {
+                writer.append(GameRecord.of(second));
+            }
+            //assert
+            try(GameLogReader reader = new GameLogReader(file)) {
+                assertSameGame(first, GameLogReader.replay(reader.next()));
+                assertSameGame(second, GameLogReader.replay(reader.next()));
+                Assertions.assertNull(reader.next());
+                Assertions.assertEquals(2, reader.getGamesRead());
+            }
+            Files.delete(file);
+        }
+    }
+
+    @Nested
+    class formatTests {
+        @Test
+        public void truncatedLogShouldBeReported() throws IOException {
+            //arrange
+            Path file = Files.createTempFile("games", ".log");
+            Files.delete(file);
+            try(GameLogWriter writer = new GameLogWriter(file)) {
+                writer.append(playRandomGame(3, 3, "Alice", "Bob"));
+            }
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 1);
+            }
+            //act & assert
+            try(GameLogReader reader = new GameLogReader(file)) {
+                Assertions.assertThrows(GameLogFormatException.class, reader::next);
+            }
+            Files.delete(file);
+        }
+
+        @Test
+        public void otherFilesShouldBeRejected() throws IOException {
+            //arrange
+            Path file = Files.createTempFile("games", ".log");
+            Files.writeString(file, "definitely not a game log");
+            //act & assert
+            Assertions.assertThrows(GameLogFormatException.class, () -> new GameLogReader(file));
+            Assertions.assertThrows(GameLogFormatException.class, () -> new GameLogWriter(file));
+            Files.delete(file);
+        }
+
+        @Test
+        public void unconfiguredGameShouldNotBeLogged() throws IOException {
+            //arrange
+            Path file = Files.createTempFile("games", ".log");
+            Files.delete(file);
+            //act & assert
+            try(GameLogWriter writer = new GameLogWriter(file)) {
+                Assertions.assertThrows(GameNotLoggableException.class, () -> writer.append(new Game()));
+            }
+            Files.delete(file);
+        }
+    }
+}
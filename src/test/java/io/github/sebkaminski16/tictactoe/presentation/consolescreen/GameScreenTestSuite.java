@@ -0,0 +1,104 @@
+package io.github.sebkaminski16.tictactoe.presentation.consolescreen;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.Game;
+import io.github.sebkaminski16.tictactoe.logic.Player;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import io.github.sebkaminski16.tictactoe.presentation.keyboardinput.KeyboardInput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class GameScreenTestSuite {
+
+    //remembers how many times it was written to
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int writes = 0;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            this.writes++;
+            super.write(bytes, offset, length);
+        }
+    }
+
+    @Nested
+    class showGameBoardTests {
+        @Test
+        public void boardShouldBeRenderedWithLegendInOneWrite() {
+            //arrange
+            CountingOutputStream output = new CountingOutputStream();
+            GameScreen screen = new GameScreen(new KeyboardInput(), output, false);
+            BitBoard board = new BitBoard(3, 3);
+            board.place(0, Symbol.X);
+            board.place(4, Symbol.O);
+            //act
+            screen.showGameBoard(board.asList());
+            //assert
+            Assertions.assertEquals(1, output.writes);
+            Assertions.assertEquals("LEGEND\n0 1 2 \n3 4 5 \n6 7 8 \n\nGAME BOARD\nX _ _ \n_ O _ \n_ _ _ \n\n",
+                    output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        public void ansiRedrawShouldStartEveryBoardAtTheTopOfTheScreen() {
+            //arrange
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            GameScreen screen = new GameScreen(new KeyboardInput(), output, true);
+            List<Symbol> board = new BitBoard(4, 4).asList();
+            //act
+            screen.showGameBoard(board);
+            screen.showGameBoard(board);
+            //assert
+            String text = output.toString(StandardCharsets.UTF_8);
+            Assertions.assertTrue(text.startsWith("\u001B[H\u001B[2JLEGEND\n"));
+            Assertions.assertEquals(2, text.split("\u001B\\[H", -1).length - 1);
+        }
+
+        @Test
+        public void listeningScreenShouldDrawBoardFromMoves() {
+            //arrange
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            GameScreen screen = new GameScreen(new KeyboardInput(), output, false);
+            Game game = new Game();
+            game.addListener(screen);
+            game.configure(3, 3, Symbol.X, "Player1", "Player2");
+            //act
+            game.insertSymbolIntoCellN(0);
+            game.insertSymbolIntoCellN(4);
+            screen.showGameBoard();
+            //assert
+            Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("GAME BOARD\nX _ _ \n_ O _ \n_ _ _ \n\n"));
+        }
+
+        @Test
+        public void largeBoardShouldStillBeOneWrite() {
+            //arrange
+            CountingOutputStream output = new CountingOutputStream();
+            GameScreen screen = new GameScreen(new KeyboardInput(), output, false);
+            //act
+            screen.showGameBoard(new BitBoard(32, 5).asList());
+            //assert
+            Assertions.assertEquals(1, output.writes);
+            Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).contains("1023 \n"));
+        }
+    }
+
+    @Nested
+    class showPlayerInfoTests {
+        @Test
+        public void playersShouldBeShownWithTheirSymbols() {
+            //arrange
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            GameScreen screen = new GameScreen(new KeyboardInput(), output, false);
+            //act
+            screen.showPlayerInfo(List.of(new Player("Żaneta", Symbol.O), new Player("Bob", Symbol.X)));
+            //assert
+            Assertions.assertEquals("PLAYERS\nŻaneta (O), Bob (X)\n", output.toString(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 
 //https://stackoverflow.com/a/31635737
 public class KeyboardInputTestSuite {
@@ -66,4 +67,39 @@ public class KeyboardInputTestSuite {
             Assertions.assertThrows(IncorrectInputException.class, keyboardInputInstance::readIntegerValue);
         }
     }
+
+    @Nested
+    class BufferedInput {
+        @Test
+        public void keyboardInputShouldReadPipedLinesOneAfterAnother() {
+            //arrange
+            KeyboardInput keyboardInput = new KeyboardInput(new ByteArrayInputStream("2\r\nŻaneta\n-17\n+5\n".getBytes(StandardCharsets.UTF_8)));
+            //act & assert
+            Assertions.assertEquals(2, keyboardInput.readIntegerValue());
+            Assertions.assertEquals("Żaneta", keyboardInput.readStringValue());
+            Assertions.assertEquals(-17, keyboardInput.readIntegerValue());
+            Assertions.assertEquals(5, keyboardInput.readIntegerValue());
+            Assertions.assertThrows(EmptyInputException.class, keyboardInput::readIntegerValue);
+        }
+
+        @Test
+        public void keyboardInputShouldRejectIntegersOutOfRange() {
+            //arrange
+            KeyboardInput keyboardInput = new KeyboardInput(new ByteArrayInputStream("2147483647\n-2147483648\n2147483648\n-\n".getBytes()));
+            //act & assert
+            Assertions.assertEquals(Integer.MAX_VALUE, keyboardInput.readIntegerValue());
+            Assertions.assertEquals(Integer.MIN_VALUE, keyboardInput.readIntegerValue());
+            Assertions.assertThrows(IncorrectInputException.class, keyboardInput::readIntegerValue);
+            Assertions.assertThrows(IncorrectInputException.class, keyboardInput::readIntegerValue);
+        }
+
+        @Test
+        public void keyboardInputShouldReadWholeMoveSequenceAtOnce() {
+            //arrange
+            KeyboardInput keyboardInput = new KeyboardInput(new ByteArrayInputStream("4 0, 8,2  6\n\n".getBytes()));
+            //act & assert
+            Assertions.assertArrayEquals(new int[] {4, 0, 8, 2, 6}, keyboardInput.readIntegerValues());
+            Assertions.assertThrows(EmptyInputException.class, keyboardInput::readIntegerValues);
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package io.github.sebkaminski16.tictactoe.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class GameServerTestSuite {
+
+    private static class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        Client(int port) throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            this.reader = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.US_ASCII));
+            this.writer = new PrintWriter(this.socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+        }
+
+        String send(String command) throws IOException {
+            this.writer.println(command);
+            return this.reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+
+    @Nested
+    class protocolTests {
+        @Test
+        public void humanVsHumanGameShouldBePlayedToWin() throws IOException {
+            //arrange
+            try(GameServer server = new GameServer(0).start(); Client client = new Client(server.getPort())) {
+                String id = client.send("NEW 3 3 Alice Bob").split(" ")[1];
+                //act
+                client.send("MOVE " + id + " 0");
+                client.send("MOVE " + id + " 3");
+                client.send("MOVE " + id + " 1");
+                client.send("MOVE " + id + " 4");
+                String state = client.send("MOVE " + id + " 2");
+                //assert
+                Assertions.assertTrue(state.startsWith("STATE HAS_WINNER - "));
+                Assertions.assertTrue(state.endsWith("..."));
+                Assertions.assertEquals(5, state.substring(state.lastIndexOf(' ') + 1).replace(".", "").length());
+            }
+        }
+
+        @Test
+        public void incorrectCommandsShouldBeAnsweredWithErrors() throws IOException {
+            //arrange
+            try(GameServer server = new GameServer(0).start(); Client client = new Client(server.getPort())) {
+                String id = client.send("NEW 3 3 Alice Bob").split(" ")[1];
+                client.send("MOVE " + id + " 4");
+                //act & assert
+                Assertions.assertTrue(client.send("MOVE " + id + " 4").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("MOVE " + id + " 9").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("MOVE 12345 0").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("MOVE " + id + " x").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("NEW 40 5 Alice").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("JUMP").startsWith("ERROR"));
+                Assertions.assertTrue(client.send("STATE " + id).startsWith("STATE UNSETTLED"));
+            }
+        }
+
+        @Test
+        public void movesNamingTheirSymbolShouldBeRejectedOutOfTurn() throws IOException {
+            //arrange
+            try(GameServer server = new GameServer(0).start();
+                Client first = new Client(server.getPort());
+                Client second = new Client(server.getPort())) {
+                String[] game = first.send("NEW 3 3 Alice Bob").split(" ");
+                String firstSymbol = game[2];
+                String secondSymbol = firstSymbol.equals("X") ? "O" : "X";
+                second.send("JOIN " + game[1]);
+                //act & assert
+                Assertions.assertTrue(second.send("MOVE " + game[1] + " 0 " + secondSymbol).startsWith("ERROR"));
+                Assertions.assertTrue(first.send("MOVE " + game[1] + " 0 " + firstSymbol).startsWith("STATE UNSETTLED " + secondSymbol));
+                Assertions.assertTrue(first.send("MOVE " + game[1] + " 1 " + firstSymbol).startsWith("ERROR"));
+                Assertions.assertTrue(second.send("MOVE " + game[1] + " 1 " + secondSymbol).startsWith("STATE UNSETTLED " + firstSymbol));
+            }
+        }
+
+        @Test
+        public void connectionsShouldOnlyMoveForTheirOwnPlayers() throws IOException {
+            //arrange
+            try(GameServer server = new GameServer(0).start();
+                Client first = new Client(server.getPort());
+                Client second = new Client(server.getPort());
+                Client third = new Client(server.getPort())) {
+                String[] game = first.send("NEW 3 3 Alice Bob").split(" ");
+                String id = game[1];
+                String secondSymbol = game[2].equals("X") ? "O" : "X";
+                //act & assert
+                Assertions.assertTrue(second.send("MOVE " + id + " 0").startsWith("ERROR"));
+                Assertions.assertEquals("GAME " + id + " " + secondSymbol, second.send("JOIN " + id));
+                Assertions.assertTrue(third.send("JOIN " + id).startsWith("ERROR"));
+                Assertions.assertTrue(first.send("JOIN " + id).startsWith("ERROR"));
+                Assertions.assertTrue(second.send("MOVE " + id + " 0 " + game[2]).startsWith("ERROR"));
+                Assertions.assertTrue(second.send("MOVE " + id + " 0").startsWith("ERROR"));
+                Assertions.assertTrue(first.send("MOVE " + id + " 0").startsWith("STATE UNSETTLED " + secondSymbol));
+                Assertions.assertTrue(first.send("MOVE " + id + " 1").startsWith("ERROR"));
+                Assertions.assertTrue(third.send("MOVE " + id + " 1").startsWith("ERROR"));
+                Assertions.assertTrue(second.send("MOVE " + id + " 1").startsWith("STATE UNSETTLED " + game[2]));
+                Assertions.assertTrue(second.send("JOIN " + first.send("NEW 3 3 Carol").split(" ")[1]).startsWith("ERROR"));
+            }
+        }
+
+        @Test
+        public void onlyCreatorShouldEndGame() throws IOException {
+            //arrange
+            try(GameServer server = new GameServer(0).start();
+                Client first = new Client(server.getPort());
+                Client second = new Client(server.getPort())) {
+                String id = first.send("NEW 3 3 Alice Bob").split(" ")[1];
+                //act & assert
+                Assertions.assertTrue(second.send("END " + id).startsWith("ERROR"));
+                Assertions.assertTrue(second.send("STATE " + id).startsWith("STATE UNSETTLED"));
+                Assertions.assertEquals("OK", first.send("END " + id));
+            }
+        }
+
+        @Test
+        public void moveRateShouldOnlyCoverRecentSeconds() {
+            //arrange
+            MoveRate rate = new MoveRate(0);
+            for(int move = 0; move < 1_000; move++) {
+                rate.record(500_000_000L);
+            }
+            //act & assert
+            Assertions.assertEquals(1_000 / 1.5, rate.perSecond(1_500_000_000L), 1e-9);
+            Assertions.assertEquals(0.0, rate.perSecond((MoveRate.WINDOW_SECONDS + 2) * 1_000_000_000L));
+        }
+
+        @Test
+        public void gamesShouldBeRemovedWhenTheirConnectionCloses() throws Exception {
+            //arrange
+            try(GameServer server = new GameServer(0).start()) {
+                try(Client client = new Client(server.getPort())) {
+                    client.send("NEW 3 3 Alice");
+                    client.send("NEW 3 3 Bob");
+                    Assertions.assertEquals(2, server.getStats().sessions());
+                    //act
+                    Assertions.assertEquals("BYE", client.send("QUIT"));
+                }
+                //assert
+                for(int attempt = 0; attempt < 100 && server.getStats().connections() > 0; attempt++) {
+                    Thread.sleep(10);
+                }
+                Assertions.assertEquals(0, server.getStats().sessions());
+                Assertions.assertEquals(0, server.getStats().connections());
+            }
+        }
+    }
+
+    @Nested
+    class concurrencyTests {
+        @Test
+        public void manyClientsShouldPlayConcurrently() throws Exception {
+            //arrange
+            int clients = 200;
+            try(GameServer server = new GameServer(0).start();
+                ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Long>> results = new ArrayList<>();
+                //act
+                for(int client = 0; client < clients; client++) {
+                    long seed = client;
+                    results.add(clientThreads.submit(() -> ServerLoadReport.playRandomGames(server.getPort(), 3, 4, seed)));
+                }
+                long moves = 0;
+                for(Future<Long> result : results) {
+                    moves += result.get();
+                }
+                //assert
+                ServerStats stats = server.getStats();
+                Assertions.assertEquals(moves, stats.moves());
+                Assertions.assertTrue(moves >= clients * 3 * 4);
+                Assertions.assertTrue(stats.p99MoveLatencyNanos() > 0);
+                Assertions.assertTrue(stats.movesPerSecond() > 0);
+            }
+        }
+    }
+}
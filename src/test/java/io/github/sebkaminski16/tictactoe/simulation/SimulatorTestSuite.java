@@ -0,0 +1,70 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class SimulatorTestSuite {
+
+    @Nested
+    class runTests {
+        @Test
+        public void runShouldPlayEveryGameExactlyOnce() {
+            //arrange
+            Simulator simulator = new Simulator(GameBoardSize.MEDIUM, Strategies.parseSeeded("random"), Strategies.parseSeeded("random"), 1, 3);
+            //act
+            SimulationResult result = simulator.run(1_001);
+            //assert
+            Assertions.assertEquals(1_001, result.games());
+            Assertions.assertEquals(1_001, result.firstStrategyWins() + result.secondStrategyWins() + result.ties());
+            Assertions.assertTrue(result.gamesPerSecond() > 0);
+        }
+
+        @Test
+        public void perfectPlayersShouldOnlyTieOnSmallBoard() {
+            //arrange
+            Simulator simulator = new Simulator(GameBoardSize.SMALL, Strategies.parseSeeded("alphabeta:100"), Strategies.parseSeeded("alphabeta:100"), 2, 2);
+            //act
+            SimulationResult result = simulator.run(10);
+            //assert
+            Assertions.assertEquals(1.0, result.tieRate());
+        }
+
+        @Test
+        public void searchShouldNeverLoseAgainstRandomOnSmallBoard() {
+            //arrange
+            Simulator simulator = new Simulator(GameBoardSize.SMALL, Strategies.parseSeeded("alphabeta:100"), Strategies.parseSeeded("random"), 3, 2);
+            //act
+            SimulationResult result = simulator.run(50);
+            //assert
+            Assertions.assertEquals(0, result.secondStrategyWins());
+        }
+    }
+
+    @Nested
+    class seedTests {
+        @Test
+        public void sameSeedShouldPlayTheSameGames() {
+            //arrange
+            Simulator simulator = new Simulator(GameBoardSize.LARGE, Strategies.parseSeeded("random"), Strategies.parseSeeded("mcts:20"), 42, 3);
+            //act
+            SimulationResult first = simulator.run(300);
+            SimulationResult second = simulator.run(300);
+            //assert
+            Assertions.assertEquals(first.firstStrategyWins(), second.firstStrategyWins());
+            Assertions.assertEquals(first.secondStrategyWins(), second.secondStrategyWins());
+            Assertions.assertEquals(first.ties(), second.ties());
+        }
+    }
+
+    @Nested
+    class strategiesTests {
+        @Test
+        public void unknownStrategyShouldBeRejected() {
+            //act & assert
+            Assertions.assertThrows(UnknownStrategyException.class, () -> Strategies.parse("minimax"));
+            Assertions.assertThrows(UnknownStrategyException.class, () -> Strategies.parse("mcts:many"));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.sebkaminski16.tictactoe.simulation;
+
+import io.github.sebkaminski16.tictactoe.logic.BitBoard;
+import io.github.sebkaminski16.tictactoe.logic.GameBoardSize;
+import io.github.sebkaminski16.tictactoe.logic.SeededMoveStrategy;
+import io.github.sebkaminski16.tictactoe.logic.Symbol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+public class TournamentTestSuite {
+
+    @Nested
+    class runTests {
+        @Test
+        public void sameSeedShouldGiveSameResultsOnAnyNumberOfThreads() {
+            //arrange
+            List<String> strategies = List.of("random", "mcts:50");
+            Tournament oneThread = new Tournament(strategies, List.of(GameBoardSize.MEDIUM), 200, null, 42, 1);
+            Tournament threeThreads = new Tournament(strategies, List.of(GameBoardSize.MEDIUM), 200, null, 42, 3);
+            //act
+            PairingResult first = oneThread.run().getFirst().pairings().getFirst();
+            PairingResult second = threeThreads.run().getFirst().pairings().getFirst();
+            //assert
+            Assertions.assertEquals(200, first.games());
+            Assertions.assertEquals(first, second);
+        }
+
+        @Test
+        public void everyPairShouldPlayEveryBoardSize() {
+            //arrange
+            Tournament tournament = new Tournament(List.of("random", "alphabeta:d1", "mcts:20"), List.of(GameBoardSize.SMALL, GameBoardSize.LARGE), 20, null, 1, 2);
+            //act
+            List<TournamentResult> results = tournament.run();
+            //assert
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals(GameBoardSize.LARGE, results.get(1).size());
+            Assertions.assertEquals(3, results.get(1).pairings().size());
+            Assertions.assertEquals(60, results.get(1).games());
+            Assertions.assertEquals(3, results.get(1).ratings().size());
+        }
+
+        @Test
+        public void sprtShouldStopEarlyAgainstClearlyWeakerStrategy() {
+            //arrange
+            Tournament tournament = new Tournament(List.of("alphabeta:d4", "random"), List.of(GameBoardSize.SMALL), 10_000, Sprt.DEFAULT, 5, 2);
+            //act
+            TournamentResult result = tournament.run().getFirst();
+            //assert
+            PairingResult pairing = result.pairings().getFirst();
+            Assertions.assertEquals(SprtVerdict.FIRST_STRONGER, pairing.verdict());
+            Assertions.assertTrue(pairing.games() < 10_000);
+            Assertions.assertEquals(0, pairing.secondWins());
+            Assertions.assertEquals("alphabeta:d4", result.ratings().getFirst().strategy());
+        }
+
+        @Test
+        public void oddNumberOfGamesShouldBeRejected() {
+            //act & assert
+            Assertions.assertThrows(IncorrectSimulationConfigurationException.class,
+                    () -> new Tournament(List.of("random", "mcts"), List.of(GameBoardSize.SMALL), 11, null, 0, 1));
+            Assertions.assertThrows(IncorrectSimulationConfigurationException.class,
+                    () -> new Tournament(List.of("random", "random"), List.of(GameBoardSize.SMALL), 10, null, 0, 1));
+        }
+    }
+
+    @Nested
+    class sprtTests {
+        @Test
+        public void drawsOnlyShouldBeEven() {
+            //act & assert
+            Assertions.assertEquals(SprtVerdict.EVEN, Sprt.DEFAULT.verdict(0, 100, 0));
+        }
+
+        @Test
+        public void fewGamesShouldBeInconclusive() {
+            //act & assert
+            Assertions.assertEquals(SprtVerdict.INCONCLUSIVE, Sprt.DEFAULT.verdict(6, 5, 4));
+        }
+
+        @Test
+        public void clearResultsShouldDecideForTheWinner() {
+            //act & assert
+            Assertions.assertEquals(SprtVerdict.FIRST_STRONGER, Sprt.DEFAULT.verdict(300, 400, 100));
+            Assertions.assertEquals(SprtVerdict.SECOND_STRONGER, Sprt.DEFAULT.verdict(100, 400, 300));
+        }
+    }
+
+    @Nested
+    class eloTests {
+        @Test
+        public void differenceShouldInvertExpectedScore() {
+            //act & assert
+            Assertions.assertEquals(0.5, Elo.expectedScore(0), 1e-12);
+            Assertions.assertEquals(200, Elo.difference(Elo.expectedScore(200)), 1e-9);
+        }
+
+        @Test
+        public void fittedRatingsShouldMatchScoresOfTwoPlayers() {
+            //arrange
+            long[][] games = {{0, 1_000}, {1_000, 0}};
+            double[][] scores = {{0, 760}, {240, 0}};
+            double[] margins = new double[2];
+            //act
+            double[] ratings = Elo.fitRatings(games, scores, margins);
+            //assert
+            Assertions.assertEquals(0, ratings[0] + ratings[1], 1e-6);
+            Assertions.assertEquals(Elo.difference(760.5 / 1_001), ratings[0] - ratings[1], 1e-3);
+            Assertions.assertTrue(margins[0] > 0 && margins[0] < 50);
+        }
+    }
+
+    @Nested
+    class strategiesTests {
+        @Test
+        public void seededStrategiesShouldPlayTheSameMoves() {
+            //arrange
+            LongFunction<SeededMoveStrategy> random = Strategies.parseSeeded("random");
+            SeededMoveStrategy reseeded = random.apply(0);
+            BitBoard board = new BitBoard(GameBoardSize.LARGE);
+            //act & assert
+            for(long seed = 0; seed < 20; seed++) {
+                reseeded.reseed(seed);
+                int cell = random.apply(seed).chooseCell(board, Symbol.X);
+                Assertions.assertEquals(cell, random.apply(seed).chooseCell(board, Symbol.X));
+                Assertions.assertEquals(cell, reseeded.chooseCell(board, Symbol.X));
+            }
+            Assertions.assertThrows(UnknownStrategyException.class, () -> Strategies.parseSeeded("alphabeta:d0"));
+        }
+
+        @Test
+        public void reseededStrategiesShouldPlayLikeNewOnes() {
+            //arrange
+            BitBoard played = new BitBoard(GameBoardSize.MEDIUM);
+            played.place(5, Symbol.X);
+            BitBoard board = new BitBoard(GameBoardSize.MEDIUM);
+            board.place(0, Symbol.X);
+            board.place(6, Symbol.O);
+            for(String specification : List.of("random", "alphabeta:d3", "mcts:200")) {
+                LongFunction<SeededMoveStrategy> factory = Strategies.parseSeeded(specification);
+                SeededMoveStrategy reused = factory.apply(1);
+                reused.chooseCell(played, Symbol.O);
+                //act
+                reused.reseed(9);
+                int cell = reused.chooseCell(board, Symbol.X);
+                //assert
+                Assertions.assertEquals(factory.apply(9).chooseCell(board, Symbol.X), cell, specification);
+            }
+        }
+    }
+}